@@ -0,0 +1,124 @@
+package teamvoy.application.entity.generator;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.FileSystemUtils;
+
+/**
+ * Inserts into an {@code orders} table that already holds {@code rows} orders, keyed by random or
+ * time-ordered UUIDs stored as {@code BINARY(16)}. The table lives in a file-backed H2 database with a page
+ * cache much smaller than the table, as a buffer pool would be in production, so random keys have to
+ * touch and rewrite pages all over the primary key index while time-ordered keys only append to its end.
+ * Each operation is one inserted order, committed in batches of {@value #BATCH_SIZE}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class OrderInsertBenchmark {
+    private static final int BATCH_SIZE = 1000;
+    private static final int CACHE_SIZE_KB = 64 * 1024;
+
+    @Param("10000000")
+    private int rows;
+
+    @Param({"random", "time-ordered"})
+    private String ids;
+
+    private Path directory;
+    private Connection connection;
+    private PreparedStatement insert;
+    private Supplier<UUID> idSource;
+    private long inserted;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, SQLException {
+        idSource = "random".equals(ids) ? UUID::randomUUID : TimeOrderedUuids::next;
+        directory = Files.createTempDirectory("order-insert-benchmark");
+        connection = DriverManager.getConnection("jdbc:h2:file:" + directory.resolve("orders")
+                + ";MODE=MariaDB;CACHE_SIZE=" + CACHE_SIZE_KB, "sa", "");
+        connection.setAutoCommit(false);
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("""
+                    create table orders (
+                        order_id binary(16) not null primary key,
+                        user_id binary(16) not null,
+                        total_amount numeric(38, 2) not null,
+                        timestamp timestamp(6) not null,
+                        order_status varchar(255)
+                    )""");
+            statement.execute("create index idx_orders_user_id_timestamp on orders (user_id, timestamp)");
+            statement.execute("create index idx_orders_order_status_timestamp on orders (order_status, timestamp)");
+        }
+        insert = connection.prepareStatement("insert into orders "
+                + "(order_id, user_id, total_amount, timestamp, order_status) values (?, ?, ?, ?, 'PENDING')");
+
+        while (inserted < rows) {
+            insertBatch();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException, SQLException {
+        connection.close();
+        FileSystemUtils.deleteRecursively(directory);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void insertOrders() throws SQLException {
+        insertBatch();
+    }
+
+    private void insertBatch() throws SQLException {
+        Timestamp timestamp = Timestamp.valueOf(LocalDateTime.now());
+
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            insert.setBytes(1, toBytes(idSource.get()));
+            insert.setBytes(2, toBytes(UUID.randomUUID()));
+            insert.setBigDecimal(3, BigDecimal.valueOf(inserted + i, 2));
+            insert.setTimestamp(4, timestamp);
+            insert.addBatch();
+        }
+        insert.executeBatch();
+        connection.commit();
+        inserted += BATCH_SIZE;
+    }
+
+    private static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+}
@@ -0,0 +1,171 @@
+package teamvoy.application.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Closed-loop HTTP load test comparing the platform-thread, virtual-thread and reactive execution modes.
+ * The instances must be started beforehand against the same kind of database, e.g.
+ * {@code mvn spring-boot:run}, {@code mvn -Pjava21 spring-boot:run -Dspring-boot.run.profiles=virtual-threads
+ * -Dspring-boot.run.arguments=--server.port=8081} and {@code mvn -Preactive spring-boot:run
+ * -Dspring-boot.run.profiles=reactive -Dspring-boot.run.arguments=--server.port=8082}. Every client thread
+ * places orders for a random laptop and reads catalog pages in a 1:4 ratio; throughput and latency
+ * percentiles are reported per mode.
+ *
+ * <p>Arguments: {@code [--platform=<url>] [--virtual=<url>] [--reactive=<url>] [--concurrency=400]
+ * [--warmup=10s] [--duration=30s]}.
+ */
+public final class OrderLoadTest {
+    private static final int LAPTOPS = 50;
+    private static final int PAGE_SIZE = 20;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final int concurrency;
+
+    private OrderLoadTest(int concurrency) {
+        this.concurrency = concurrency;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "400"));
+        Duration warmup = parseDuration(options.getOrDefault("warmup", "10s"));
+        Duration duration = parseDuration(options.getOrDefault("duration", "30s"));
+
+        OrderLoadTest loadTest = new OrderLoadTest(concurrency);
+        List<Result> results = new ArrayList<>();
+        for (String mode : List.of("platform", "virtual", "reactive")) {
+            String baseUrl = options.get(mode);
+            if (baseUrl != null) {
+                results.add(loadTest.run(mode, baseUrl, warmup, duration));
+            }
+        }
+
+        System.out.printf("%-10s %12s %8s %12s %10s %10s %10s%n",
+                "mode", "requests", "errors", "req/s", "p50 ms", "p99 ms", "max ms");
+        results.forEach(result -> System.out.printf("%-10s %12d %8d %12.1f %10.2f %10.2f %10.2f%n",
+                result.mode(), result.requests(), result.errors(), result.throughput(),
+                result.latency().getValueAtPercentile(50) / 1_000_000.0,
+                result.latency().getValueAtPercentile(99) / 1_000_000.0,
+                result.latency().getMaxValue() / 1_000_000.0));
+    }
+
+    private Result run(String mode, String baseUrl, Duration warmup, Duration duration) throws Exception {
+        List<UUID> laptopIds = seedLaptops(baseUrl);
+
+        runPhase(baseUrl, laptopIds, warmup);
+        return runPhase(baseUrl, laptopIds, duration).withMode(mode);
+    }
+
+    private Result runPhase(String baseUrl, List<UUID> laptopIds, Duration duration) throws InterruptedException {
+        Histogram latency = new ConcurrentHistogram(TimeUnit.MINUTES.toNanos(1), 3);
+        LongAdder errors = new LongAdder();
+        long deadline = System.nanoTime() + duration.toNanos();
+
+        ExecutorService clients = Executors.newFixedThreadPool(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            clients.execute(() -> {
+                while (System.nanoTime() < deadline) {
+                    long start = System.nanoTime();
+                    if (!sendRandomRequest(baseUrl, laptopIds)) {
+                        errors.increment();
+                    }
+                    latency.recordValue(Math.min(System.nanoTime() - start, latency.getHighestTrackableValue()));
+                }
+            });
+        }
+        clients.shutdown();
+        clients.awaitTermination(duration.toMillis() + TimeUnit.MINUTES.toMillis(1), TimeUnit.MILLISECONDS);
+
+        return new Result(null, latency.getTotalCount(), errors.sum(),
+                latency.getTotalCount() / (double) duration.toSeconds(), latency);
+    }
+
+    private boolean sendRandomRequest(String baseUrl, List<UUID> laptopIds) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        HttpRequest request;
+
+        if (random.nextInt(5) == 0) {
+            UUID laptopId = laptopIds.get(random.nextInt(laptopIds.size()));
+            request = post(baseUrl + "/orders/place", "{\"userId\":\"" + UUID.randomUUID()
+                    + "\",\"orderItemsDtoSet\":[{\"laptopId\":\"" + laptopId + "\",\"quantity\":1}]}");
+        } else {
+            int page = random.nextInt(LAPTOPS / PAGE_SIZE + 1);
+            request = HttpRequest.newBuilder(URI.create(baseUrl + "/laptops?page=" + page + "&size=" + PAGE_SIZE))
+                    .timeout(Duration.ofSeconds(30))
+                    .GET()
+                    .build();
+        }
+
+        try {
+            return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() < 400;
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private List<UUID> seedLaptops(String baseUrl) throws IOException, InterruptedException {
+        List<UUID> laptopIds = new ArrayList<>(LAPTOPS);
+
+        for (int i = 0; i < LAPTOPS; i++) {
+            HttpResponse<String> response = httpClient.send(post(baseUrl + "/laptops",
+                    "{\"brand\":\"Load\",\"model\":\"Test " + i + "\",\"processor\":\"CPU\",\"ram\":16,"
+                            + "\"price\":999.99,\"quantity\":100000000}"), HttpResponse.BodyHandlers.ofString());
+            laptopIds.add(UUID.fromString(objectMapper.readTree(response.body()).get("laptopId").asText()));
+        }
+
+        return laptopIds;
+    }
+
+    private HttpRequest post(String url, String body) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            String[] option = arg.replaceFirst("^--", "").split("=", 2);
+            options.put(option[0], option.length > 1 ? option[1] : "");
+        }
+
+        return options;
+    }
+
+    private static Duration parseDuration(String value) {
+        return Duration.ofSeconds(Long.parseLong(value.replaceFirst("s$", "")));
+    }
+
+    private record Result(String mode, long requests, long errors, double throughput, Histogram latency) {
+        Result withMode(String mode) {
+            return new Result(mode, requests, errors, throughput, latency);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package teamvoy.application.mapper;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import teamvoy.application.dto.order.response.OrderResponseDto;
+import teamvoy.application.entity.Laptop;
+import teamvoy.application.entity.Order;
+import teamvoy.application.entity.OrderItem;
+import teamvoy.application.entity.enums.OrderStatus;
+import teamvoy.application.mapper.impl.OrderItemMapperImpl;
+import teamvoy.application.mapper.impl.OrderMapperImpl;
+import teamvoy.application.repo.projection.OrderItemRow;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderMapperBenchmark {
+    @Param({"1", "10", "100"})
+    private int items;
+
+    private OrderMapper orderMapper;
+    private Order order;
+    private List<OrderItemRow> orderItemRows;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        orderMapper = new OrderMapperImpl(new OrderItemMapperImpl());
+
+        UUID orderId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        LocalDateTime timestamp = LocalDateTime.now();
+
+        Set<OrderItem> orderItems = IntStream.range(0, items)
+                .mapToObj(i -> {
+                    Laptop laptop = new Laptop();
+                    laptop.setLaptopId(UUID.randomUUID());
+                    laptop.setBrand("Brand " + i);
+                    laptop.setModel("Model " + i);
+                    laptop.setPrice(BigDecimal.valueOf(1000 + i));
+
+                    OrderItem orderItem = new OrderItem();
+                    orderItem.setLaptop(laptop);
+                    orderItem.setQuantity(1);
+                    orderItem.setTotalPrice(laptop.getPrice());
+                    return orderItem;
+                })
+                .collect(Collectors.toSet());
+        BigDecimal totalAmount = orderItems.stream()
+                .map(OrderItem::getTotalPrice)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        order = Order.builder()
+                .orderId(orderId)
+                .userId(userId)
+                .orderItems(orderItems)
+                .totalAmount(totalAmount)
+                .timestamp(timestamp)
+                .orderStatus(OrderStatus.PENDING)
+                .build();
+        orderItemRows = orderItems.stream()
+                .map(item -> new OrderItemRow(orderId, userId, totalAmount, timestamp, OrderStatus.PENDING,
+                        item.getLaptop().getLaptopId(), item.getLaptop().getBrand(), item.getLaptop().getModel(),
+                        item.getLaptop().getPrice(), item.getQuantity(), item.getTotalPrice()))
+                .toList();
+    }
+
+    @Benchmark
+    public OrderResponseDto toDtoFromEntity() {
+        return orderMapper.toDto(order);
+    }
+
+    @Benchmark
+    public OrderResponseDto toDtoFromRows() {
+        return orderMapper.toDto(orderItemRows);
+    }
+}
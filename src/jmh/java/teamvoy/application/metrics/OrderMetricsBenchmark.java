@@ -0,0 +1,64 @@
+package teamvoy.application.metrics;
+
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Overhead of recording order metrics compared to running the same work unmetered.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class OrderMetricsBenchmark {
+    private static final long WORK_TOKENS = 100;
+
+    private OrderMetrics orderMetrics;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        orderMetrics = new OrderMetrics(new PrometheusMeterRegistry(PrometheusConfig.DEFAULT));
+    }
+
+    @Benchmark
+    public long baseline() {
+        Blackhole.consumeCPU(WORK_TOKENS);
+        return WORK_TOKENS;
+    }
+
+    @Benchmark
+    public long recordOperation() {
+        return orderMetrics.record(OrderOperation.PLACE, () -> {
+            Blackhole.consumeCPU(WORK_TOKENS);
+            return WORK_TOKENS;
+        });
+    }
+
+    @Benchmark
+    public long recordOperationAndCount() {
+        long result = orderMetrics.record(OrderOperation.PLACE, () -> {
+            Blackhole.consumeCPU(WORK_TOKENS);
+            return WORK_TOKENS;
+        });
+        orderMetrics.orderPlaced();
+
+        return result;
+    }
+}
@@ -0,0 +1,118 @@
+package teamvoy.application.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import teamvoy.application.BenchmarkContext;
+import teamvoy.application.dto.order.event.OrderEvent;
+import teamvoy.application.dto.order.event.OrderEventItem;
+import teamvoy.application.entity.enums.OrderEventType;
+import teamvoy.application.entity.generator.TimeOrderedUuids;
+
+/**
+ * Throughput of the order event pipeline on one node, in events per second.
+ * {@code appendToJournal} appends batches of {@value #BATCH_SIZE} serialized events to the journal and
+ * writes each batch to disk; {@code relay} moves a batch of that size from the outbox table to the journal,
+ * locking, appending and deleting it as the scheduled relay does. The scheduled relay is slowed down so it
+ * doesn't drain the outbox behind the benchmark's back.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class OutboxRelayBenchmark {
+    private static final int BATCH_SIZE = 1000;
+
+    private ConfigurableApplicationContext context;
+    private OutboxRelay outboxRelay;
+    private OrderEventJournal orderEventJournal;
+    private JdbcTemplate jdbcTemplate;
+
+    private List<byte[]> payloads;
+    private List<Object[]> outboxRows;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        context = BenchmarkContext.start("--orders.events.relay-interval=1h",
+                "--orders.events.relay-batch-size=" + BATCH_SIZE, "--orders.events.retained-segments=2");
+        outboxRelay = context.getBean(OutboxRelay.class);
+        orderEventJournal = context.getBean(OrderEventJournal.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+        LocalDateTime now = LocalDateTime.now();
+        OrderEvent event = new OrderEvent(TimeOrderedUuids.next(), OrderEventType.PLACED, now,
+                TimeOrderedUuids.next(), UUID.randomUUID(), new BigDecimal("3799.98"), now,
+                List.of(new OrderEventItem(TimeOrderedUuids.next(), 2, new BigDecimal("3799.98"))));
+        String payload = objectMapper.writeValueAsString(event);
+
+        payloads = Collections.nCopies(BATCH_SIZE, payload.getBytes(StandardCharsets.UTF_8));
+        outboxRows = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            outboxRows.add(new Object[] {null, payload});
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public long appendToJournal() {
+        orderEventJournal.append(payloads);
+
+        return orderEventJournal.endOffset();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public int relay(Outbox outbox) {
+        return outboxRelay.relay();
+    }
+
+    /**
+     * Fills the outbox with one batch of events before each relay.
+     */
+    @State(Scope.Benchmark)
+    public static class Outbox {
+        @Setup(Level.Invocation)
+        public void fill(OutboxRelayBenchmark benchmark) {
+            benchmark.outboxRows.forEach(row -> row[0] = toBytes(TimeOrderedUuids.next()));
+            benchmark.jdbcTemplate.batchUpdate("insert into outbox_events (event_id, payload) values (?, ?)",
+                    benchmark.outboxRows);
+        }
+
+        private static byte[] toBytes(UUID uuid) {
+            return ByteBuffer.allocate(16)
+                    .putLong(uuid.getMostSignificantBits())
+                    .putLong(uuid.getLeastSignificantBits())
+                    .array();
+        }
+    }
+}
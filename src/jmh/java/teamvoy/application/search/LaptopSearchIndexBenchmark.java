@@ -0,0 +1,106 @@
+package teamvoy.application.search;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import teamvoy.application.dto.laptop.request.LaptopSearchRequestDto;
+import teamvoy.application.entity.Laptop;
+
+/**
+ * Latency of filtered and sorted catalog searches over a synthetic catalog.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+public class LaptopSearchIndexBenchmark {
+    private static final int CHUNK_SIZE = 10_000;
+    private static final List<String> BRANDS = List.of(
+            "Lenovo", "Apple", "HP", "Dell", "Asus", "Acer", "MSI", "Microsoft", "Samsung", "Razer");
+    private static final List<Integer> RAMS = List.of(8, 16, 32, 64);
+
+    @Param("1000000")
+    private int laptops;
+
+    private LaptopSearchIndex index;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 0, 0);
+        index = new LaptopSearchIndex();
+        List<Laptop> chunk = new ArrayList<>(CHUNK_SIZE);
+
+        for (int i = 0; i < laptops; i++) {
+            Laptop laptop = new Laptop();
+            laptop.setLaptopId(UUID.randomUUID());
+            laptop.setBrand(BRANDS.get(random.nextInt(BRANDS.size())));
+            laptop.setModel("Model " + random.nextInt(1000));
+            laptop.setProcessor("CPU " + random.nextInt(200));
+            laptop.setRam(RAMS.get(random.nextInt(RAMS.size())));
+            laptop.setPrice(BigDecimal.valueOf(30_000 + random.nextInt(470_000), 2));
+            laptop.setQuantity(random.nextInt(100));
+            laptop.setCreatedAt(createdAt.plusSeconds(i));
+            chunk.add(laptop);
+
+            if (chunk.size() == CHUNK_SIZE) {
+                index.addAll(chunk);
+                chunk.clear();
+            }
+        }
+        index.addAll(chunk);
+    }
+
+    @Benchmark
+    public List<UUID> brandAndRamByPrice() {
+        return index.search(new LaptopSearchRequestDto("Lenovo", null, 32, null, null),
+                PageRequest.of(0, 20, Sort.by(Sort.Direction.ASC, LaptopSearchIndex.SORT_BY_PRICE)));
+    }
+
+    @Benchmark
+    public List<UUID> brandAndPriceRangeNewestFirst() {
+        return index.search(new LaptopSearchRequestDto("Dell", null, null,
+                        new BigDecimal("1000.00"), new BigDecimal("1500.00")),
+                PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, LaptopSearchIndex.SORT_BY_CREATED_AT)));
+    }
+
+    @Benchmark
+    public List<UUID> processorDeepPage() {
+        return index.search(new LaptopSearchRequestDto(null, "CPU 7", null, null, null),
+                PageRequest.of(50, 20, Sort.by(Sort.Direction.DESC, LaptopSearchIndex.SORT_BY_PRICE)));
+    }
+
+    @Benchmark
+    public List<UUID> priceRangeOnly() {
+        return index.search(new LaptopSearchRequestDto(null, null, null,
+                        new BigDecimal("4990.00"), new BigDecimal("5000.00")),
+                PageRequest.of(0, 20, Sort.by(LaptopSearchIndex.SORT_BY_PRICE)));
+    }
+
+    @Benchmark
+    public List<UUID> selectiveFilterSortedByOtherKey() {
+        return index.search(new LaptopSearchRequestDto("Razer", "CPU 199", 64,
+                        new BigDecimal("4000.00"), null),
+                PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, LaptopSearchIndex.SORT_BY_CREATED_AT)));
+    }
+}
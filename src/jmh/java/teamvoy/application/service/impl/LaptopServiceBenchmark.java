@@ -0,0 +1,73 @@
+package teamvoy.application.service.impl;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import teamvoy.application.BenchmarkContext;
+import teamvoy.application.dto.laptop.request.LaptopRequestDto;
+import teamvoy.application.dto.laptop.response.LaptopCursorPageDto;
+import teamvoy.application.dto.laptop.response.LaptopResponseDto;
+import teamvoy.application.service.LaptopService;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LaptopServiceBenchmark {
+    private static final int LAPTOPS = 1000;
+    private static final int PAGE_SIZE = 20;
+
+    private ConfigurableApplicationContext context;
+    private LaptopService laptopService;
+    private int page;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        laptopService = context.getBean(LaptopService.class);
+
+        IntStream.range(0, LAPTOPS).forEach(i -> laptopService.createLaptop(new LaptopRequestDto(
+                "Brand " + i, "Model " + i, "CPU", 16, new BigDecimal("999.99"), 100)));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<LaptopResponseDto> getAllFirstPage() {
+        return laptopService.getAll(PageRequest.of(0, PAGE_SIZE));
+    }
+
+    @Benchmark
+    public List<LaptopResponseDto> getAllRotatingPages() {
+        Pageable pageable = PageRequest.of(page, PAGE_SIZE);
+        page = (page + 1) % (LAPTOPS / PAGE_SIZE);
+
+        return laptopService.getAll(pageable);
+    }
+
+    @Benchmark
+    public LaptopCursorPageDto getAllByCursor() {
+        return laptopService.getAll(null, PAGE_SIZE);
+    }
+}
@@ -0,0 +1,117 @@
+package teamvoy.application.service.impl;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.util.AopTestUtils;
+import teamvoy.application.BenchmarkContext;
+import teamvoy.application.dto.laptop.request.LaptopRequestDto;
+import teamvoy.application.dto.order.request.OrderItemDto;
+import teamvoy.application.dto.order.request.OrderRequestDto;
+import teamvoy.application.dto.order.response.OrderResponseDto;
+import teamvoy.application.entity.Laptop;
+import teamvoy.application.entity.OrderItem;
+import teamvoy.application.repo.LaptopRepository;
+import teamvoy.application.service.LaptopService;
+import teamvoy.application.service.OrderService;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderServiceBenchmark {
+    @Param({"1", "10", "100"})
+    private int items;
+
+    private ConfigurableApplicationContext context;
+    private OrderService orderService;
+    private OrderServiceImpl orderServiceTarget;
+
+    private OrderRequestDto orderRequestDto;
+    private Map<UUID, Laptop> laptopMap;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        orderService = context.getBean(OrderService.class);
+        orderServiceTarget = AopTestUtils.getUltimateTargetObject(orderService);
+
+        LaptopService laptopService = context.getBean(LaptopService.class);
+        IntStream.range(0, items).forEach(i -> laptopService.createLaptop(new LaptopRequestDto(
+                "Brand " + i, "Model " + i, "CPU", 16, new BigDecimal("999.99").add(BigDecimal.valueOf(i)),
+                Integer.MAX_VALUE)));
+
+        List<Laptop> laptops = context.getBean(LaptopRepository.class).findAll();
+        laptopMap = laptops.stream()
+                .collect(Collectors.toMap(Laptop::getLaptopId, Function.identity()));
+        orderRequestDto = new OrderRequestDto(UUID.randomUUID(), laptops.stream()
+                .map(laptop -> new OrderItemDto(laptop.getLaptopId(), 1))
+                .collect(Collectors.toSet()));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public OrderResponseDto placeOrder() {
+        return orderService.placeOrder(orderRequestDto);
+    }
+
+    @Benchmark
+    public BigDecimal buildOrderItems(Blackhole blackhole) {
+        OrderPricing orderPricing = new OrderPricing();
+        blackhole.consume(orderServiceTarget.buildOrderItems(orderRequestDto.orderItemsDtoSet(), laptopMap,
+                orderPricing));
+
+        return orderPricing.totalAmount();
+    }
+
+    /**
+     * The BigDecimal and stream based pricing used before {@link OrderPricing}, kept as a reference.
+     */
+    @Benchmark
+    public BigDecimal buildOrderItemsWithBigDecimal(Blackhole blackhole) {
+        Set<OrderItem> orderItems = orderRequestDto.orderItemsDtoSet().stream()
+                .map(orderItemDto -> {
+                    Laptop laptop = laptopMap.get(orderItemDto.laptopId());
+
+                    OrderItem orderItem = new OrderItem();
+                    orderItem.setLaptop(laptop);
+                    orderItem.setQuantity(orderItemDto.quantity());
+                    orderItem.setTotalPrice(laptop.getPrice().multiply(BigDecimal.valueOf(orderItem.getQuantity())));
+
+                    return orderItem;
+                })
+                .collect(Collectors.toSet());
+        blackhole.consume(orderItems);
+
+        return orderItems.stream()
+                .map(OrderItem::getTotalPrice)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+}
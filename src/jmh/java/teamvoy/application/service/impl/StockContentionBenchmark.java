@@ -0,0 +1,126 @@
+package teamvoy.application.service.impl;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.dao.OptimisticLockingFailureException;
+import teamvoy.application.BenchmarkContext;
+import teamvoy.application.dto.laptop.request.LaptopRequestDto;
+import teamvoy.application.dto.order.request.OrderItemDto;
+import teamvoy.application.dto.order.request.OrderRequestDto;
+import teamvoy.application.dto.order.request.OrderSubmission;
+import teamvoy.application.service.LaptopService;
+import teamvoy.application.service.OrderService;
+
+/**
+ * Concurrent buyers of a single laptop. Every invocation is one round in which each buyer places
+ * one order at the same time. Versioned batch placement is compared with the conditional stock update
+ * of single order placement; the counters report placed orders and optimistic locking conflicts per second.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class StockContentionBenchmark {
+    @Param({"2", "8", "32", "128", "256"})
+    private int buyers;
+
+    private ConfigurableApplicationContext context;
+    private OrderService orderService;
+    private MeterRegistry meterRegistry;
+    private ExecutorService executor;
+    private OrderRequestDto orderRequestDto;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Outcomes {
+        public long placed;
+        public long retries;
+        public long exhausted;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        orderService = context.getBean(OrderService.class);
+        meterRegistry = context.getBean(MeterRegistry.class);
+        executor = Executors.newFixedThreadPool(buyers);
+
+        UUID laptopId = context.getBean(LaptopService.class).createLaptop(new LaptopRequestDto(
+                "Lenovo", "ThinkPad X1", "Intel Core i7-1365U", 32, new BigDecimal("1900.00"),
+                Integer.MAX_VALUE)).laptopId();
+        orderRequestDto = new OrderRequestDto(UUID.randomUUID(), Set.of(new OrderItemDto(laptopId, 1)));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+        context.close();
+    }
+
+    @Benchmark
+    public void versionedBatchPlacement(Outcomes outcomes) throws InterruptedException, ExecutionException {
+        runRound(outcomes, () -> orderService.placeOrderBatch(
+                List.of(new OrderSubmission(UUID.randomUUID(), orderRequestDto))));
+    }
+
+    @Benchmark
+    public void conditionalUpdatePlacement(Outcomes outcomes) throws InterruptedException, ExecutionException {
+        runRound(outcomes, () -> orderService.placeOrder(orderRequestDto));
+    }
+
+    private void runRound(Outcomes outcomes, Runnable placement) throws InterruptedException, ExecutionException {
+        double retriesBefore = conflicts("retried");
+        AtomicLong placed = new AtomicLong();
+        AtomicLong exhausted = new AtomicLong();
+        List<Future<?>> futures = new ArrayList<>(buyers);
+
+        for (int i = 0; i < buyers; i++) {
+            futures.add(executor.submit(() -> {
+                try {
+                    placement.run();
+                    placed.incrementAndGet();
+                } catch (OptimisticLockingFailureException e) {
+                    exhausted.incrementAndGet();
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+
+        outcomes.placed += placed.get();
+        outcomes.exhausted += exhausted.get();
+        outcomes.retries += (long) (conflicts("retried") - retriesBefore);
+    }
+
+    private double conflicts(String outcome) {
+        return meterRegistry.get("orders.stock.conflicts").tag("outcome", outcome).counter().count();
+    }
+}
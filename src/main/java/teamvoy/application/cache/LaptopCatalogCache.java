@@ -0,0 +1,214 @@
+package teamvoy.application.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import teamvoy.application.config.CatalogCacheProperties;
+import teamvoy.application.datasource.PrimaryReads;
+import teamvoy.application.dto.laptop.response.LaptopResponseDto;
+import teamvoy.application.entity.Laptop;
+import teamvoy.application.event.StockChangedEvent;
+import teamvoy.application.mapper.LaptopMapper;
+
+/**
+ * Read-through cache of the laptop catalog.
+ * Product attributes rarely change, so pre-built {@link LaptopResponseDto}s and the ordered laptop IDs
+ * of every requested page are cached with a size bound and TTL. Stock quantities change on every order,
+ * so they are kept in a separate live overlay that is adjusted by committed {@link StockChangedEvent}s
+ * and that is applied on every read. Hits, misses and evictions of both caches are published to Micrometer
+ * as the {@code cache.*} meters of the {@value #LAPTOPS_CACHE} and {@value #PAGES_CACHE} caches.
+ */
+@Component
+public class LaptopCatalogCache {
+    private static final int STOCK_VERSION_STRIPES = 1024;
+    private static final String LAPTOPS_CACHE = "catalog.laptops";
+    private static final String PAGES_CACHE = "catalog.pages";
+
+    private final LaptopMapper laptopMapper;
+    private final Cache<UUID, LaptopResponseDto> laptops;
+    private final Cache<String, List<UUID>> pages;
+    private final Map<UUID, Integer> stock = new ConcurrentHashMap<>();
+    private final AtomicLongArray stockVersions = new AtomicLongArray(STOCK_VERSION_STRIPES);
+
+    public LaptopCatalogCache(CatalogCacheProperties properties, LaptopMapper laptopMapper, MeterRegistry registry) {
+        this.laptopMapper = laptopMapper;
+        this.laptops = Caffeine.newBuilder()
+                .maximumSize(properties.maxLaptops())
+                .expireAfterWrite(properties.ttl())
+                .executor(Runnable::run)
+                .removalListener((UUID laptopId, LaptopResponseDto laptop, RemovalCause cause) -> {
+                    if (cause != RemovalCause.REPLACED) {
+                        stock.remove(laptopId);
+                    }
+                })
+                .recordStats()
+                .build();
+        this.pages = Caffeine.newBuilder()
+                .maximumSize(properties.maxPages())
+                .expireAfterWrite(properties.ttl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(registry, laptops, LAPTOPS_CACHE);
+        CaffeineCacheMetrics.monitor(registry, pages, PAGES_CACHE);
+    }
+
+    /**
+     * Returns a page of the catalog, loading it from the database only on a cache miss.
+     * A loaded page is not cached if the stock of any of its laptops changed while it was being loaded,
+     * as the loaded quantities might already be stale. Pages are loaded from the primary even in read-only
+     * transactions: they seed the stock overlay, and a lagging replica could return a quantity from before
+     * stock changes that were already applied to it.
+     *
+     * @param pageKey a key uniquely identifying the page query
+     * @param loader  loads the laptops of the page from the database
+     * @return the laptops of the page with their current stock quantities
+     */
+    public List<LaptopResponseDto> getPage(String pageKey, Supplier<List<Laptop>> loader) {
+        List<UUID> laptopIds = pages.getIfPresent(pageKey);
+        if (laptopIds != null) {
+            List<LaptopResponseDto> cached = getAllPresent(laptopIds);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        long[] versionsBeforeLoad = snapshotStockVersions();
+        List<Laptop> loaded = PrimaryReads.force(loader);
+        List<LaptopResponseDto> result = loaded.stream()
+                .map(laptopMapper::toDto)
+                .toList();
+
+        if (!isStockUnchangedSince(versionsBeforeLoad, result)) {
+            return result;
+        }
+
+        List<UUID> loadedIds = result.stream().map(LaptopResponseDto::laptopId).toList();
+        result.forEach(laptop -> {
+            laptops.put(laptop.laptopId(), laptop);
+            stock.put(laptop.laptopId(), laptop.quantity());
+        });
+        pages.put(pageKey, loadedIds);
+
+        if (!isStockUnchangedSince(versionsBeforeLoad, result)) {
+            laptops.invalidateAll(loadedIds);
+            pages.invalidate(pageKey);
+        }
+
+        return result;
+    }
+
+    /**
+     * Applies stock changes to the live overlay once the transaction that made them commits,
+     * or immediately if they were made outside a transaction.
+     *
+     * @param event the stock changes, as a map of laptop IDs to signed stock changes
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStockChanged(StockChangedEvent event) {
+        adjustStock(event.quantityChanges());
+    }
+
+    /**
+     * Drops all cached pages, e.g. after a laptop was added to the catalog.
+     * Cached product attributes stay valid and are kept.
+     */
+    public void invalidatePages() {
+        pages.invalidateAll();
+    }
+
+    public CacheStats laptopStats() {
+        return laptops.stats();
+    }
+
+    public CacheStats pageStats() {
+        return pages.stats();
+    }
+
+    /**
+     * Applies stock changes to the overlay, bumping the version stripe of each laptop before and after the change.
+     * A page load that snapshots the versions between the two bumps may seed the overlay with the quantity
+     * that already includes the change; the second bump makes its check after seeding fail, so the change
+     * isn't counted twice.
+     *
+     * @param quantityChanges the stock changes, as a map of laptop IDs to signed stock changes
+     */
+    private void adjustStock(Map<UUID, Integer> quantityChanges) {
+        quantityChanges.forEach((laptopId, change) -> {
+            int stripe = stockVersionStripe(laptopId);
+            stockVersions.incrementAndGet(stripe);
+            stock.computeIfPresent(laptopId, (id, quantity) -> quantity + change);
+            stockVersions.incrementAndGet(stripe);
+        });
+    }
+
+    /**
+     * Resolves cached laptops with their live stock quantities.
+     *
+     * @param laptopIds the IDs of the laptops to resolve
+     * @return the resolved laptops, or {@code null} if any of them is no longer cached
+     */
+    private List<LaptopResponseDto> getAllPresent(List<UUID> laptopIds) {
+        List<LaptopResponseDto> result = new ArrayList<>(laptopIds.size());
+
+        for (UUID laptopId : laptopIds) {
+            LaptopResponseDto laptop = laptops.getIfPresent(laptopId);
+            Integer quantity = stock.get(laptopId);
+            if (laptop == null || quantity == null) {
+                return null;
+            }
+
+            result.add(quantity.equals(laptop.quantity()) ? laptop : withQuantity(laptop, quantity));
+        }
+
+        return result;
+    }
+
+    private LaptopResponseDto withQuantity(LaptopResponseDto laptop, Integer quantity) {
+        return new LaptopResponseDto(
+                laptop.laptopId(),
+                laptop.brand(),
+                laptop.model(),
+                laptop.processor(),
+                laptop.ram(),
+                laptop.price(),
+                quantity,
+                laptop.createdAt()
+        );
+    }
+
+    private long[] snapshotStockVersions() {
+        long[] snapshot = new long[STOCK_VERSION_STRIPES];
+        for (int i = 0; i < STOCK_VERSION_STRIPES; i++) {
+            snapshot[i] = stockVersions.get(i);
+        }
+
+        return snapshot;
+    }
+
+    private boolean isStockUnchangedSince(long[] snapshot, List<LaptopResponseDto> loaded) {
+        for (LaptopResponseDto laptop : loaded) {
+            int stripe = stockVersionStripe(laptop.laptopId());
+            if (stockVersions.get(stripe) != snapshot[stripe]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private int stockVersionStripe(UUID laptopId) {
+        return laptopId.hashCode() & (STOCK_VERSION_STRIPES - 1);
+    }
+}
@@ -0,0 +1,114 @@
+package teamvoy.application.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import teamvoy.application.config.OrderIdempotencyProperties;
+import teamvoy.application.dto.order.request.OrderItemDto;
+import teamvoy.application.dto.order.request.OrderRequestDto;
+import teamvoy.application.dto.order.response.OrderResponseDto;
+
+/**
+ * Bounded in-memory store of order placements by idempotency key.
+ * The first request with a given key executes the placement, concurrent duplicates wait for its outcome
+ * and later duplicates get the remembered result. A duplicate whose request hash differs from the one the key
+ * was first used with is rejected. Keys of failed placements are forgotten, so a retry executes the placement again.
+ */
+@Component
+public class OrderIdempotencyCache {
+    private final Cache<String, Placement> placements;
+
+    public OrderIdempotencyCache(OrderIdempotencyProperties properties) {
+        this.placements = Caffeine.newBuilder()
+                .maximumSize(properties.maxKeys())
+                .expireAfterWrite(properties.ttl())
+                .build();
+    }
+
+    /**
+     * Executes the placement once per idempotency key.
+     *
+     * @param idempotencyKey the key identifying the placement request
+     * @param requestHash    the fingerprint of the request body
+     * @param placement      places the order, called only by the first request with the key
+     * @return the placed order, possibly placed by an earlier request with the same key
+     * @throws ResponseStatusException with status 422 if the key was first used with a different request
+     */
+    public OrderResponseDto execute(String idempotencyKey, String requestHash, Supplier<OrderResponseDto> placement) {
+        Placement execution = new Placement(requestHash, new CompletableFuture<>());
+        Placement existing = placements.asMap().putIfAbsent(idempotencyKey, execution);
+
+        if (existing != null) {
+            if (!existing.requestHash().equals(requestHash)) {
+                throw keyReused(idempotencyKey);
+            }
+            return await(existing.order());
+        }
+
+        try {
+            OrderResponseDto order = placement.get();
+            execution.order().complete(order);
+
+            return order;
+        } catch (RuntimeException e) {
+            placements.asMap().remove(idempotencyKey, execution);
+            execution.order().completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Creates the error for an idempotency key replayed with a different request.
+     *
+     * @param idempotencyKey the reused key
+     * @return a {@code 422 UNPROCESSABLE_ENTITY} exception
+     */
+    public static ResponseStatusException keyReused(String idempotencyKey) {
+        return new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY,
+                "Idempotency key was already used with a different request: " + idempotencyKey);
+    }
+
+    /**
+     * Computes the fingerprint of an order request, independent of the order of its items.
+     *
+     * @param requestDto the details of the order, including user ID and ordered items
+     * @return the hex-encoded SHA-256 hash of the user ID and the items sorted by laptop ID
+     */
+    public static String requestHash(OrderRequestDto requestDto) {
+        StringBuilder canonical = new StringBuilder().append(requestDto.userId());
+        requestDto.orderItemsDtoSet().stream()
+                .sorted(Comparator.comparing(OrderItemDto::laptopId, Comparator.nullsFirst(Comparator.naturalOrder())))
+                .forEach(item -> canonical.append('|').append(item.laptopId()).append(':').append(item.quantity()));
+
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256")
+                    .digest(canonical.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private OrderResponseDto await(CompletableFuture<OrderResponseDto> execution) {
+        try {
+            return execution.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private record Placement(String requestHash, CompletableFuture<OrderResponseDto> order) {
+    }
+}
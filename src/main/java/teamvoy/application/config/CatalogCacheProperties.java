@@ -0,0 +1,18 @@
+package teamvoy.application.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "catalog.cache")
+public record CatalogCacheProperties(
+        @DefaultValue("100000")
+        long maxLaptops,
+
+        @DefaultValue("10000")
+        long maxPages,
+
+        @DefaultValue("5m")
+        Duration ttl
+) {
+}
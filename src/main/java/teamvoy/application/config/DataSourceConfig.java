@@ -0,0 +1,65 @@
+package teamvoy.application.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import teamvoy.application.datasource.ReplicaRoutingDataSource;
+
+/**
+ * Routes read-only transactions to the configured replicas and everything else to the primary.
+ * The application data source is a lazy proxy that only picks a physical connection on the first
+ * statement, once the transaction's read-only flag is known. Without replicas all work goes to the primary.
+ */
+@Configuration(proxyBeanMethods = false)
+public class DataSourceConfig {
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @ConditionalOnProperty("datasource.routing.replicas[0].url")
+    public ReplicaRoutingDataSource replicaDataSource(HikariDataSource primaryDataSource,
+                                                     DataSourceRoutingProperties properties) {
+        List<DataSource> replicas = new ArrayList<>(properties.replicas().size());
+        for (int i = 0; i < properties.replicas().size(); i++) {
+            replicas.add(createReplica(properties.replicas().get(i), i));
+        }
+
+        return new ReplicaRoutingDataSource(replicas, primaryDataSource);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource,
+                                 ObjectProvider<ReplicaRoutingDataSource> replicaDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        replicaDataSource.ifAvailable(dataSource::setReadOnlyDataSource);
+
+        return dataSource;
+    }
+
+    private HikariDataSource createReplica(DataSourceRoutingProperties.Replica replica, int index) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica-" + index);
+        dataSource.setJdbcUrl(replica.url());
+        dataSource.setUsername(replica.username());
+        dataSource.setPassword(replica.password());
+        dataSource.setMaximumPoolSize(replica.maximumPoolSize());
+        dataSource.setConnectionTimeout(replica.connectionTimeout().toMillis());
+        dataSource.setInitializationFailTimeout(-1);
+        dataSource.setReadOnly(true);
+
+        return dataSource;
+    }
+}
@@ -0,0 +1,33 @@
+package teamvoy.application.config;
+
+import java.time.Duration;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "datasource.routing")
+public record DataSourceRoutingProperties(
+        @DefaultValue
+        List<Replica> replicas,
+
+        @DefaultValue("5s")
+        Duration readYourWritesWindow,
+
+        @DefaultValue("100000")
+        long maxRecentWrites
+) {
+    public record Replica(
+            String url,
+
+            String username,
+
+            String password,
+
+            @DefaultValue("10")
+            int maximumPoolSize,
+
+            @DefaultValue("1s")
+            Duration connectionTimeout
+    ) {
+    }
+}
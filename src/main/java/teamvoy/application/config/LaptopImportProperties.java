@@ -0,0 +1,11 @@
+package teamvoy.application.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "catalog.import")
+public record LaptopImportProperties(
+        @DefaultValue("1000")
+        int chunkSize
+) {
+}
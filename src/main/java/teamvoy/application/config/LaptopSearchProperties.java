@@ -0,0 +1,15 @@
+package teamvoy.application.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "catalog.search")
+public record LaptopSearchProperties(
+        @DefaultValue("10s")
+        Duration catchUpInterval,
+
+        @DefaultValue("1m")
+        Duration catchUpOverlap
+) {
+}
@@ -0,0 +1,26 @@
+package teamvoy.application.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+@ConfigurationProperties(prefix = "orders.events")
+public record OrderEventProperties(
+        @DefaultValue("data/order-events")
+        Path journalDirectory,
+
+        @DefaultValue("64MB")
+        DataSize segmentSize,
+
+        @DefaultValue("16")
+        int retainedSegments,
+
+        @DefaultValue("1000")
+        int relayBatchSize,
+
+        @DefaultValue("100ms")
+        Duration relayInterval
+) {
+}
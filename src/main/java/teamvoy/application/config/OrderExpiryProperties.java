@@ -0,0 +1,24 @@
+package teamvoy.application.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "orders.expiry")
+public record OrderExpiryProperties(
+        @DefaultValue("10m")
+        Duration pendingTimeout,
+
+        @DefaultValue("500")
+        int chunkSize,
+
+        @DefaultValue("30s")
+        Duration timeBudget,
+
+        @DefaultValue("1000000")
+        int queueCapacity,
+
+        @DefaultValue("7d")
+        Duration tombstoneRetention
+) {
+}
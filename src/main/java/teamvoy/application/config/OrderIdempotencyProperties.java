@@ -0,0 +1,18 @@
+package teamvoy.application.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "orders.idempotency")
+public record OrderIdempotencyProperties(
+        @DefaultValue("100000")
+        long maxKeys,
+
+        @DefaultValue("1h")
+        Duration ttl,
+
+        @DefaultValue("7d")
+        Duration retention
+) {
+}
@@ -0,0 +1,21 @@
+package teamvoy.application.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "orders.submission")
+public record OrderSubmissionProperties(
+        @DefaultValue("10000")
+        int queueCapacity,
+
+        @DefaultValue("200")
+        int batchSize,
+
+        @DefaultValue("100000")
+        long maxStatuses,
+
+        @DefaultValue("1h")
+        Duration statusTtl
+) {
+}
@@ -0,0 +1,17 @@
+package teamvoy.application.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "scheduling.lease")
+public record SchedulerLeaseProperties(
+        String nodeId,
+
+        @DefaultValue("5m")
+        Duration lockAtMostFor,
+
+        @DefaultValue("1m")
+        Duration lockAtLeastFor
+) {
+}
@@ -0,0 +1,21 @@
+package teamvoy.application.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "catalog.stock-events")
+public record StockEventsProperties(
+        @DefaultValue("1s")
+        Duration interval,
+
+        @DefaultValue("15s")
+        Duration heartbeat,
+
+        @DefaultValue("16")
+        int sendThreads,
+
+        @DefaultValue("16")
+        int maxPendingEvents
+) {
+}
@@ -0,0 +1,15 @@
+package teamvoy.application.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "metrics.stock")
+public record StockMetricsProperties(
+        @DefaultValue("20")
+        int topN,
+
+        @DefaultValue("30s")
+        Duration refreshInterval
+) {
+}
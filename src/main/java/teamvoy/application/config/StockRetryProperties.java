@@ -0,0 +1,18 @@
+package teamvoy.application.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "orders.stock.retry")
+public record StockRetryProperties(
+        @DefaultValue("5")
+        int maxAttempts,
+
+        @DefaultValue("2ms")
+        Duration initialBackoff,
+
+        @DefaultValue("100ms")
+        Duration maxBackoff
+) {
+}
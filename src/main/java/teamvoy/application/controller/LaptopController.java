@@ -1,32 +1,115 @@
 package teamvoy.application.controller;
 
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import teamvoy.application.dto.laptop.request.LaptopRequestDto;
+import teamvoy.application.dto.laptop.request.LaptopSearchRequestDto;
+import teamvoy.application.dto.laptop.response.LaptopCursorPageDto;
+import teamvoy.application.dto.laptop.response.LaptopImportErrorDto;
 import teamvoy.application.dto.laptop.response.LaptopResponseDto;
+import teamvoy.application.event.StockEventBroadcaster;
+import teamvoy.application.exception.LaptopImportException;
 import teamvoy.application.service.LaptopService;
 
 @RestController
 @RequestMapping("/laptops")
 @RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class LaptopController {
     private final LaptopService laptopService;
+    private final StockEventBroadcaster stockEventBroadcaster;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     public ResponseEntity<LaptopResponseDto> createLaptop(@RequestBody @Valid LaptopRequestDto requestDto) {
         return ResponseEntity.ok(laptopService.createLaptop(requestDto));
     }
 
+    @PostMapping(value = "/bulk",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE},
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> importLaptops(InputStream body) {
+        StreamingResponseBody progressStream = outputStream -> {
+            try (MappingIterator<LaptopRequestDto> requestDtos =
+                         objectMapper.readerFor(LaptopRequestDto.class).readValues(body)) {
+                laptopService.importLaptops(requestDtos, progress -> {
+                    writeLine(outputStream, progress);
+                    flush(outputStream);
+                });
+            } catch (LaptopImportException e) {
+                writeLine(outputStream, new LaptopImportErrorDto(e.getRecord(), e.getImported(), e.getReason()));
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(progressStream);
+    }
+
     @GetMapping
     public ResponseEntity<List<LaptopResponseDto>> getAll(Pageable pageable) {
         return ResponseEntity.ok(laptopService.getAll(pageable));
     }
+
+    @GetMapping("/search")
+    public ResponseEntity<List<LaptopResponseDto>> search(LaptopSearchRequestDto criteria, Pageable pageable) {
+        return ResponseEntity.ok(laptopService.search(criteria, pageable));
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportLaptops() {
+        StreamingResponseBody laptopStream = outputStream ->
+                laptopService.exportLaptops(laptop -> writeLine(outputStream, laptop));
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(laptopStream);
+    }
+
+    @GetMapping(value = "/stock-events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamStockEvents() {
+        return stockEventBroadcaster.subscribe();
+    }
+
+    @GetMapping(params = "limit")
+    public ResponseEntity<LaptopCursorPageDto> getAll(@RequestParam(required = false) String after,
+                                                      @RequestParam int limit) {
+        return ResponseEntity.ok(laptopService.getAll(after, limit));
+    }
+
+    private void writeLine(OutputStream outputStream, Object value) {
+        try {
+            outputStream.write(objectMapper.writeValueAsBytes(value));
+            outputStream.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void flush(OutputStream outputStream) {
+        try {
+            outputStream.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
@@ -1,32 +1,77 @@
 package teamvoy.application.controller;
 
+import java.net.URI;
+import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import teamvoy.application.dto.order.request.OrderRequestDto;
 import teamvoy.application.dto.order.response.OrderResponseDto;
+import teamvoy.application.dto.order.response.OrderSubmissionResponseDto;
+import teamvoy.application.dto.order.response.OrderSummaryResponseDto;
+import teamvoy.application.entity.enums.PaymentOutcome;
 import teamvoy.application.service.OrderService;
 
 @RestController
 @RequestMapping("/orders")
 @RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class OrderController {
     private final OrderService orderService;
 
     @PostMapping("/place")
-    public ResponseEntity<OrderResponseDto> placeOrder(@RequestBody OrderRequestDto requestDto) {
-        return ResponseEntity.ok(orderService.placeOrder(requestDto));
+    public ResponseEntity<OrderResponseDto> placeOrder(
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @RequestBody OrderRequestDto requestDto) {
+        return ResponseEntity.ok(orderService.placeOrder(requestDto, idempotencyKey));
+    }
+
+    @PostMapping("/submit")
+    public ResponseEntity<OrderSubmissionResponseDto> submitOrder(@RequestBody OrderRequestDto requestDto) {
+        OrderSubmissionResponseDto submission = orderService.submitOrder(requestDto);
+
+        return ResponseEntity.accepted()
+                .location(URI.create("/orders/" + submission.orderId() + "/status"))
+                .body(submission);
+    }
+
+    @GetMapping("/{orderId}/status")
+    public ResponseEntity<OrderSubmissionResponseDto> getSubmission(@PathVariable UUID orderId) {
+        return ResponseEntity.ok(orderService.getSubmission(orderId));
     }
 
     @PostMapping("/{orderId}/pay")
-    public ResponseEntity<Void> markOrderAsPaid(@PathVariable UUID orderId) {
-        orderService.markOrderAsPaid(orderId);
+    public ResponseEntity<PaymentOutcome> markOrderAsPaid(@PathVariable UUID orderId) {
+        PaymentOutcome outcome = orderService.markOrderAsPaid(orderId);
+
+        HttpStatus status = switch (outcome) {
+            case PAID -> HttpStatus.OK;
+            case NOT_FOUND -> HttpStatus.NOT_FOUND;
+            case ALREADY_PAID -> HttpStatus.CONFLICT;
+            case EXPIRED -> HttpStatus.GONE;
+        };
+        return ResponseEntity.status(status).body(outcome);
+    }
+
+    @GetMapping("/{orderId}")
+    public ResponseEntity<OrderResponseDto> getOrder(@PathVariable UUID orderId) {
+        return ResponseEntity.ok(orderService.getOrder(orderId));
+    }
 
-        return ResponseEntity.ok().build();
+    @GetMapping(params = "userId")
+    public ResponseEntity<List<OrderSummaryResponseDto>> getUserOrders(@RequestParam UUID userId,
+                                                                       Pageable pageable) {
+        return ResponseEntity.ok(orderService.getUserOrders(userId, pageable));
     }
 }
@@ -0,0 +1,31 @@
+package teamvoy.application.controller;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import teamvoy.application.dto.report.response.SalesBucketDto;
+import teamvoy.application.entity.enums.SalesGranularity;
+import teamvoy.application.service.SalesReportService;
+
+@RestController
+@RequestMapping("/reports")
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class ReportController {
+    private final SalesReportService salesReportService;
+
+    @GetMapping("/sales")
+    public ResponseEntity<List<SalesBucketDto>> getSalesReport(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "HOUR") SalesGranularity granularity) {
+        return ResponseEntity.ok(salesReportService.getSalesReport(from, to, granularity));
+    }
+}
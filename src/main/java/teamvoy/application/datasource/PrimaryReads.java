@@ -0,0 +1,40 @@
+package teamvoy.application.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * Forces read-only work of the current thread onto the primary database, e.g. to read data
+ * that was just written and might not have reached the replicas yet.
+ * The routing is decided when a transaction first touches the database, so the primary can be forced
+ * both around and inside a read-only transaction, as long as no statement has been executed yet.
+ */
+public final class PrimaryReads {
+    private static final ThreadLocal<Boolean> FORCED = new ThreadLocal<>();
+
+    private PrimaryReads() {
+    }
+
+    /**
+     * Runs the given work with all reads routed to the primary database.
+     *
+     * @param work the work to run
+     * @param <T>  the type of the result
+     * @return the result of the work
+     */
+    public static <T> T force(Supplier<T> work) {
+        if (isForced()) {
+            return work.get();
+        }
+
+        FORCED.set(Boolean.TRUE);
+        try {
+            return work.get();
+        } finally {
+            FORCED.remove();
+        }
+    }
+
+    public static boolean isForced() {
+        return FORCED.get() != null;
+    }
+}
@@ -0,0 +1,41 @@
+package teamvoy.application.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.UUID;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+import teamvoy.application.config.DataSourceRoutingProperties;
+
+/**
+ * Remembers recently written keys, such as order and user IDs, for as long as the replicas may lag
+ * behind the primary. Reads of a recently written key are routed to the primary, so a client
+ * always sees its own writes.
+ */
+@Component
+public class RecentWrites {
+    private final Cache<UUID, Boolean> keys;
+
+    public RecentWrites(DataSourceRoutingProperties properties) {
+        this.keys = Caffeine.newBuilder()
+                .maximumSize(properties.maxRecentWrites())
+                .expireAfterWrite(properties.readYourWritesWindow())
+                .build();
+    }
+
+    public void record(UUID key) {
+        keys.put(key, Boolean.TRUE);
+    }
+
+    /**
+     * Runs a read, routing it to the primary if the given key was written recently.
+     *
+     * @param key  the key being read
+     * @param read the read to run
+     * @param <T>  the type of the result
+     * @return the result of the read
+     */
+    public <T> T read(UUID key, Supplier<T> read) {
+        return keys.getIfPresent(key) != null ? PrimaryReads.force(read) : read.get();
+    }
+}
@@ -0,0 +1,74 @@
+package teamvoy.application.datasource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+/**
+ * Data source for read-only work that spreads connections over the replicas in round-robin order.
+ * A replica that can't provide a connection is skipped; if none can, or if the primary is forced
+ * through {@link PrimaryReads}, the connection is taken from the primary.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+    private final List<DataSource> replicas;
+    private final DataSource primary;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(List<DataSource> replicas, DataSource primary) {
+        this.replicas = List.copyOf(replicas);
+        this.primary = primary;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (PrimaryReads.isForced()) {
+            return primary.getConnection();
+        }
+
+        int start = Math.floorMod(next.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            try {
+                return replicas.get((start + i) % replicas.size()).getConnection();
+            } catch (SQLException e) {
+                log.warn("Replica {} is unavailable, trying the next one", (start + i) % replicas.size(), e);
+            }
+        }
+
+        return primary.getConnection();
+    }
+
+    /**
+     * Closes the connection pools of the replicas. The primary is managed separately and stays open.
+     *
+     * @throws Exception if any replica fails to close
+     */
+    @Override
+    public void close() throws Exception {
+        for (DataSource replica : replicas) {
+            if (replica instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    /**
+     * Takes a connection with explicit credentials from the primary if it is forced through {@link PrimaryReads}.
+     * Replica credentials are configured per replica, so replicas can't be used with other credentials.
+     *
+     * @throws SQLFeatureNotSupportedException if the primary isn't forced
+     */
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        if (PrimaryReads.isForced()) {
+            return primary.getConnection(username, password);
+        }
+
+        throw new SQLFeatureNotSupportedException("Replica credentials are configured per replica");
+    }
+}
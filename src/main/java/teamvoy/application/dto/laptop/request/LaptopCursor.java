@@ -0,0 +1,47 @@
+package teamvoy.application.dto.laptop.request;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Position in the catalog ordered by creation time and laptop ID, exposed to clients as an opaque token.
+ */
+public record LaptopCursor(
+        LocalDateTime createdAt,
+        UUID laptopId
+) {
+    private static final String SEPARATOR = ",";
+
+    /**
+     * Encodes the cursor into a URL-safe token.
+     *
+     * @return the opaque cursor token
+     */
+    public String encode() {
+        String value = createdAt + SEPARATOR + laptopId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token previously produced by {@link #encode()}.
+     *
+     * @param token the opaque cursor token
+     * @return the decoded cursor
+     * @throws ResponseStatusException with status 400 if the token is malformed
+     */
+    public static LaptopCursor decode(String token) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = value.split(SEPARATOR, 2);
+
+            return new LaptopCursor(LocalDateTime.parse(parts[0]), UUID.fromString(parts[1]));
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor: " + token);
+        }
+    }
+}
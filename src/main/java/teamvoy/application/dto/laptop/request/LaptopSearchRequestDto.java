@@ -0,0 +1,12 @@
+package teamvoy.application.dto.laptop.request;
+
+import java.math.BigDecimal;
+
+public record LaptopSearchRequestDto(
+        String brand,
+        String processor,
+        Integer ram,
+        BigDecimal minPrice,
+        BigDecimal maxPrice
+) {
+}
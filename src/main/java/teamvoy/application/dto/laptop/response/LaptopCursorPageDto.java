@@ -0,0 +1,9 @@
+package teamvoy.application.dto.laptop.response;
+
+import java.util.List;
+
+public record LaptopCursorPageDto(
+        List<LaptopResponseDto> laptops,
+        String nextCursor
+) {
+}
@@ -0,0 +1,8 @@
+package teamvoy.application.dto.laptop.response;
+
+public record LaptopImportErrorDto(
+        long record,
+        long imported,
+        String error
+) {
+}
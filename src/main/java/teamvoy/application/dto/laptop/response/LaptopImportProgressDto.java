@@ -0,0 +1,8 @@
+package teamvoy.application.dto.laptop.response;
+
+public record LaptopImportProgressDto(
+        int chunk,
+        int chunkSize,
+        long imported
+) {
+}
@@ -0,0 +1,9 @@
+package teamvoy.application.dto.laptop.response;
+
+import java.util.UUID;
+
+public record StockDeltaDto(
+        UUID laptopId,
+        int delta
+) {
+}
@@ -0,0 +1,19 @@
+package teamvoy.application.dto.order.event;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import teamvoy.application.entity.enums.OrderEventType;
+
+public record OrderEvent(
+        UUID eventId,
+        OrderEventType type,
+        LocalDateTime occurredAt,
+        UUID orderId,
+        UUID userId,
+        BigDecimal totalAmount,
+        LocalDateTime placedAt,
+        List<OrderEventItem> items
+) {
+}
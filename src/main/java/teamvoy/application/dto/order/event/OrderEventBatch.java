@@ -0,0 +1,9 @@
+package teamvoy.application.dto.order.event;
+
+import java.util.List;
+
+public record OrderEventBatch(
+        List<OrderEvent> events,
+        long nextOffset
+) {
+}
@@ -0,0 +1,11 @@
+package teamvoy.application.dto.order.event;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public record OrderEventItem(
+        UUID laptopId,
+        Integer quantity,
+        BigDecimal totalPrice
+) {
+}
@@ -0,0 +1,18 @@
+package teamvoy.application.dto.order.event;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import java.time.LocalDateTime;
+import java.util.List;
+import teamvoy.application.entity.enums.OrderEventType;
+
+/**
+ * The part of an {@link OrderEvent} that sales rollups are built from.
+ * Read from the JSON payload of the full event, skipping the IDs and amounts the rollups don't need.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record OrderEventSales(
+        OrderEventType type,
+        LocalDateTime occurredAt,
+        List<OrderEventItem> items
+) {
+}
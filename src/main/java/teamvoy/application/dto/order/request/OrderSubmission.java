@@ -0,0 +1,9 @@
+package teamvoy.application.dto.order.request;
+
+import java.util.UUID;
+
+public record OrderSubmission(
+        UUID orderId,
+        OrderRequestDto requestDto
+) {
+}
@@ -0,0 +1,11 @@
+package teamvoy.application.dto.order.response;
+
+import java.util.UUID;
+import teamvoy.application.entity.enums.SubmissionStatus;
+
+public record OrderSubmissionResponseDto(
+        UUID orderId,
+        SubmissionStatus status,
+        String message
+) {
+}
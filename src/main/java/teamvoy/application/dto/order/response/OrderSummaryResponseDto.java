@@ -0,0 +1,15 @@
+package teamvoy.application.dto.order.response;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import teamvoy.application.entity.enums.OrderStatus;
+
+public record OrderSummaryResponseDto(
+        UUID orderId,
+        UUID userId,
+        BigDecimal totalAmount,
+        LocalDateTime timestamp,
+        OrderStatus orderStatus
+) {
+}
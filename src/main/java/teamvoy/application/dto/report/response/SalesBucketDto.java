@@ -0,0 +1,15 @@
+package teamvoy.application.dto.report.response;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record SalesBucketDto(
+        LocalDateTime bucketStart,
+        UUID laptopId,
+        long unitsPlaced,
+        long unitsSold,
+        BigDecimal revenue,
+        long unitsExpired
+) {
+}
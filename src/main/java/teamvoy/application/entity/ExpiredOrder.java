@@ -0,0 +1,25 @@
+package teamvoy.application.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.Setter;
+
+@Entity
+@Table(name = "expired_orders", indexes = {
+        @Index(name = "idx_expired_orders_expired_at", columnList = "expired_at")
+})
+@Getter
+@Setter
+public class ExpiredOrder {
+    @Id
+    private UUID orderId;
+
+    @Column(nullable = false)
+    private LocalDateTime expiredAt;
+}
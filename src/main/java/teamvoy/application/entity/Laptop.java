@@ -2,25 +2,28 @@ package teamvoy.application.entity;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.UUID;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
+import teamvoy.application.entity.generator.TimeOrderedUuid;
 
 @Entity
-@Table(name = "laptops")
+@Table(name = "laptops", indexes = {
+        @Index(name = "idx_laptops_created_at_laptop_id", columnList = "created_at, laptop_id")
+})
 @Getter
 @Setter
 @EqualsAndHashCode(of = "laptopId")
 public class Laptop {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     private UUID laptopId;
 
     @Column(nullable = false)
@@ -43,4 +46,8 @@ public class Laptop {
 
     @Column(nullable = false)
     private LocalDateTime createdAt;
+
+    @Version
+    @Column(nullable = false)
+    private long version;
 }
@@ -5,9 +5,9 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import java.math.BigDecimal;
@@ -21,9 +21,13 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import teamvoy.application.entity.enums.OrderStatus;
+import teamvoy.application.entity.generator.TimeOrderedUuid;
 
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        @Index(name = "idx_orders_user_id_timestamp", columnList = "user_id, timestamp"),
+        @Index(name = "idx_orders_order_status_timestamp", columnList = "order_status, timestamp")
+})
 @Getter
 @Setter
 @Builder
@@ -32,13 +36,14 @@ import teamvoy.application.entity.enums.OrderStatus;
 @EqualsAndHashCode(of = "orderId")
 public class Order {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     private UUID orderId;
 
     @Column(nullable = false)
     private UUID userId;
 
     @OneToMany(cascade = CascadeType.ALL)
+    @JoinColumn(name = "order_id", nullable = false, updatable = false)
     private Set<OrderItem> orderItems;
 
     @Column(nullable = false)
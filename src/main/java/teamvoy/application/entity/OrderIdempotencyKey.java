@@ -0,0 +1,31 @@
+package teamvoy.application.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.Setter;
+
+@Entity
+@Table(name = "order_idempotency_keys", indexes = {
+        @Index(name = "idx_order_idempotency_keys_created_at", columnList = "created_at")
+})
+@Getter
+@Setter
+public class OrderIdempotencyKey {
+    @Id
+    private String idempotencyKey;
+
+    @Column(length = 64)
+    private String requestHash;
+
+    @Column(nullable = false)
+    private UUID orderId;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
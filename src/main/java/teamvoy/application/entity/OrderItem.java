@@ -2,29 +2,30 @@ package teamvoy.application.entity;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
 import java.math.BigDecimal;
 import java.util.UUID;
-import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
+import teamvoy.application.entity.generator.TimeOrderedUuid;
 
 @Entity
 @Table(name = "order_items")
 @Getter
 @Setter
-@EqualsAndHashCode(of = "totalPrice")
 public class OrderItem {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     private UUID orderItemId;
 
-    @ManyToOne
+    @Column(name = "order_id", insertable = false, updatable = false)
+    private UUID orderId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "laptop_id", nullable = false)
     private Laptop laptop;
 
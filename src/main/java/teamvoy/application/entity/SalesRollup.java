@@ -0,0 +1,38 @@
+package teamvoy.application.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.Setter;
+import teamvoy.application.entity.enums.OrderEventType;
+
+@Entity
+@Table(name = "sales_rollups")
+@IdClass(SalesRollupId.class)
+@Getter
+@Setter
+public class SalesRollup {
+    @Id
+    private LocalDateTime bucketStart;
+
+    @Id
+    private UUID laptopId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    private OrderEventType eventType;
+
+    @Column(nullable = false)
+    private Long units;
+
+    @Column(nullable = false)
+    private BigDecimal amount;
+}
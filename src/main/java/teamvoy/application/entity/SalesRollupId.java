@@ -0,0 +1,10 @@
+package teamvoy.application.entity;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import teamvoy.application.entity.enums.OrderEventType;
+
+public record SalesRollupId(LocalDateTime bucketStart, UUID laptopId, OrderEventType eventType)
+        implements Serializable {
+}
@@ -0,0 +1,7 @@
+package teamvoy.application.entity.enums;
+
+public enum OrderEventType {
+    PLACED,
+    PAID,
+    EXPIRED
+}
@@ -0,0 +1,8 @@
+package teamvoy.application.entity.enums;
+
+public enum PaymentOutcome {
+    PAID,
+    NOT_FOUND,
+    ALREADY_PAID,
+    EXPIRED
+}
@@ -0,0 +1,7 @@
+package teamvoy.application.entity.enums;
+
+public enum SubmissionStatus {
+    QUEUED,
+    PLACED,
+    REJECTED
+}
@@ -0,0 +1,31 @@
+package teamvoy.application.entity.generator;
+
+import java.util.EnumSet;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+/**
+ * Generates time-ordered UUIDs for entities persisted without an ID and keeps IDs assigned by the application,
+ * e.g. order IDs handed out to clients before the order is inserted.
+ */
+public class TimeOrderedUuidGenerator implements BeforeExecutionGenerator {
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+                           EventType eventType) {
+        Object assignedId = session.getEntityPersister(null, owner).getIdentifier(owner, session);
+
+        return assignedId != null ? assignedId : TimeOrderedUuids.next();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+
+    @Override
+    public boolean allowAssignedIdentifiers() {
+        return true;
+    }
+}
@@ -0,0 +1,85 @@
+package teamvoy.application.entity.generator;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Issues version 7 UUIDs: a 48-bit Unix millisecond timestamp, a 12-bit counter and 62 random bits.
+ * Stored as {@code BINARY(16)} they sort by creation time, so new rows are appended to the end of
+ * primary key indexes instead of splitting random pages.
+ * <p>
+ * IDs are strictly increasing within one source. The counter starts at a random value in the lower half
+ * of its range every millisecond and is incremented for IDs issued within the same millisecond; when it
+ * overflows, or the clock moves backwards, the timestamp is advanced past the last issued one instead.
+ */
+public final class TimeOrderedUuids {
+    private static final TimeOrderedUuids SYSTEM = new TimeOrderedUuids(System::currentTimeMillis);
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private static final int COUNTER_BITS = 12;
+    private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000000000000000L;
+    private static final long RANDOM_MASK = 0x3FFFFFFFFFFFFFFFL;
+
+    private final LongSupplier clock;
+    private final AtomicLong lastTimestampAndCounter = new AtomicLong();
+
+    TimeOrderedUuids(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Issues the next time-ordered UUID from the system clock.
+     *
+     * @return a version 7 UUID greater than any previously issued one
+     */
+    public static UUID next() {
+        return SYSTEM.generate();
+    }
+
+    /**
+     * Returns the Unix millisecond timestamp a version 7 UUID was issued at.
+     *
+     * @param uuid a version 7 UUID
+     * @return the milliseconds since the epoch encoded in its first 48 bits
+     */
+    public static long timestamp(UUID uuid) {
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+
+    /**
+     * Issues the next time-ordered UUID from the clock of this source.
+     *
+     * @return a version 7 UUID greater than any previously issued by this source
+     */
+    UUID generate() {
+        long timestampAndCounter = nextTimestampAndCounter();
+        long mostSigBits = (timestampAndCounter >>> COUNTER_BITS) << 16 | VERSION
+                | (timestampAndCounter & COUNTER_MASK);
+        long leastSigBits = RANDOM.nextLong() & RANDOM_MASK | VARIANT;
+
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    /**
+     * Advances the timestamp and counter, packed into one value so both are updated atomically.
+     *
+     * @return the timestamp in the upper bits and the counter in the lower 12 bits
+     */
+    private long nextTimestampAndCounter() {
+        while (true) {
+            long last = lastTimestampAndCounter.get();
+            long fresh = clock.getAsLong() << COUNTER_BITS
+                    | ThreadLocalRandom.current().nextLong(1L << (COUNTER_BITS - 1));
+            long next = (fresh >>> COUNTER_BITS) > (last >>> COUNTER_BITS) ? fresh : last + 1;
+
+            if (lastTimestampAndCounter.compareAndSet(last, next)) {
+                return next;
+            }
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package teamvoy.application.event;
+
+import java.util.Map;
+import java.util.UUID;
+
+public record StockChangedEvent(
+        Map<UUID, Integer> quantityChanges
+) {
+}
@@ -0,0 +1,220 @@
+package teamvoy.application.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import teamvoy.application.config.StockEventsProperties;
+import teamvoy.application.dto.laptop.response.StockDeltaDto;
+
+/**
+ * Pushes committed stock changes to server-sent event subscribers.
+ * Changes are coalesced per laptop and flushed once per interval: every flush serializes a single
+ * event that is handed to all subscribers, so the cost of an update doesn't depend on the number
+ * of subscribers beyond the socket writes. The blocking writes run on a dedicated sender pool, one
+ * subscriber at a time, so a slow client never holds up the scheduler thread or other subscribers'
+ * events beyond a sender thread. Every subscriber buffers a bounded number of events; a subscriber that
+ * falls further behind is dropped. Idle subscribers receive a heartbeat comment, which also detects and
+ * drops closed connections.
+ */
+@Component
+public class StockEventBroadcaster implements DisposableBean {
+    private final ObjectMapper objectMapper;
+    private final long heartbeatNanos;
+    private final int maxPendingEvents;
+    private final Executor sender;
+    private final Map<UUID, Integer> pendingChanges = new ConcurrentHashMap<>();
+    private final Map<SseEmitter, Subscriber> subscribers = new ConcurrentHashMap<>();
+
+    private volatile long lastSentNanos = System.nanoTime();
+
+    @Autowired
+    public StockEventBroadcaster(ObjectMapper objectMapper, StockEventsProperties properties) {
+        this(objectMapper, properties,
+                Executors.newFixedThreadPool(properties.sendThreads(), senderThreadFactory()));
+    }
+
+    StockEventBroadcaster(ObjectMapper objectMapper, StockEventsProperties properties, Executor sender) {
+        this.objectMapper = objectMapper;
+        this.heartbeatNanos = properties.heartbeat().toNanos();
+        this.maxPendingEvents = properties.maxPendingEvents();
+        this.sender = sender;
+    }
+
+    /**
+     * Opens a new subscription to stock changes.
+     *
+     * The subscription never times out; it ends when a send to a closed connection fails.
+     *
+     * @return the emitter streaming {@code stock} events to the subscriber
+     */
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(0L);
+        register(emitter);
+
+        return emitter;
+    }
+
+    /**
+     * Collects stock changes once the transaction that made them commits.
+     *
+     * @param event the committed stock changes
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStockChanged(StockChangedEvent event) {
+        event.quantityChanges().forEach((laptopId, change) -> pendingChanges.merge(laptopId, change, Integer::sum));
+    }
+
+    /**
+     * Queues the stock changes collected since the last flush for all subscribers.
+     * Laptops whose changes cancelled each other out are left out.
+     */
+    @Scheduled(fixedDelayString = "${catalog.stock-events.interval:1s}")
+    public void flush() {
+        List<StockDeltaDto> deltas = drainPendingChanges();
+
+        if (!deltas.isEmpty()) {
+            broadcast(SseEmitter.event().name("stock").data(serialize(deltas), MediaType.APPLICATION_JSON).build());
+        } else if (System.nanoTime() - lastSentNanos >= heartbeatNanos) {
+            broadcast(SseEmitter.event().comment("heartbeat").build());
+        }
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    @Override
+    public void destroy() {
+        if (sender instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    void register(SseEmitter emitter) {
+        subscribers.put(emitter, new Subscriber(emitter));
+        emitter.onCompletion(() -> subscribers.remove(emitter));
+        emitter.onTimeout(() -> subscribers.remove(emitter));
+        emitter.onError(error -> subscribers.remove(emitter));
+    }
+
+    private List<StockDeltaDto> drainPendingChanges() {
+        List<StockDeltaDto> deltas = new ArrayList<>(pendingChanges.size());
+
+        for (UUID laptopId : pendingChanges.keySet()) {
+            Integer change = pendingChanges.remove(laptopId);
+            if (change != null && change != 0) {
+                deltas.add(new StockDeltaDto(laptopId, change));
+            }
+        }
+
+        return deltas;
+    }
+
+    private void broadcast(Set<ResponseBodyEmitter.DataWithMediaType> event) {
+        lastSentNanos = System.nanoTime();
+
+        for (Subscriber subscriber : subscribers.values()) {
+            if (!subscriber.enqueue(event)) {
+                subscribers.remove(subscriber.emitter);
+            }
+        }
+    }
+
+    private static ThreadFactory senderThreadFactory() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("stock-events-");
+        threadFactory.setDaemon(true);
+        return threadFactory;
+    }
+
+    private String serialize(List<StockDeltaDto> deltas) {
+        try {
+            return objectMapper.writeValueAsString(deltas);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Can't serialize stock changes", e);
+        }
+    }
+
+    /**
+     * Events queued for one subscriber and the task writing them.
+     * At most one sender thread writes to a subscriber at a time; the task is scheduled when the first
+     * event is queued and runs until the queue is empty.
+     */
+    private final class Subscriber implements Runnable {
+        private final SseEmitter emitter;
+        private final BlockingQueue<Set<ResponseBodyEmitter.DataWithMediaType>> events;
+        private final AtomicBoolean sending = new AtomicBoolean();
+
+        private volatile boolean dropped;
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+            this.events = new ArrayBlockingQueue<>(maxPendingEvents);
+        }
+
+        /**
+         * Queues an event without blocking and schedules the sender if it isn't running.
+         * A subscriber whose queue is full is marked as dropped; the running sender completes its
+         * emitter, so the caller never waits for a write in progress.
+         *
+         * @param event the event to send
+         * @return {@code false} if the subscriber fell too far behind and was dropped
+         */
+        private boolean enqueue(Set<ResponseBodyEmitter.DataWithMediaType> event) {
+            if (!events.offer(event)) {
+                dropped = true;
+                return false;
+            }
+
+            if (sending.compareAndSet(false, true)) {
+                sender.execute(this);
+            }
+            return true;
+        }
+
+        @Override
+        public void run() {
+            do {
+                Set<ResponseBodyEmitter.DataWithMediaType> event;
+                while ((event = events.poll()) != null) {
+                    if (dropped) {
+                        emitter.complete();
+                        return;
+                    }
+
+                    try {
+                        emitter.send(event);
+                    } catch (IOException | IllegalStateException e) {
+                        dropped = true;
+                        subscribers.remove(emitter);
+                        emitter.completeWithError(e);
+                        return;
+                    }
+                }
+
+                sending.set(false);
+            } while (!events.isEmpty() && sending.compareAndSet(false, true));
+        }
+    }
+}
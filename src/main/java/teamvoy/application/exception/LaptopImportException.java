@@ -0,0 +1,17 @@
+package teamvoy.application.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+@Getter
+public class LaptopImportException extends ResponseStatusException {
+    private final long record;
+    private final long imported;
+
+    public LaptopImportException(long record, long imported, String reason, Throwable cause) {
+        super(HttpStatus.BAD_REQUEST, reason, cause);
+        this.record = record;
+        this.imported = imported;
+    }
+}
@@ -0,0 +1,15 @@
+package teamvoy.application.journal;
+
+/**
+ * A record read from a {@link SegmentJournal}.
+ *
+ * @param offset     the offset the record starts at
+ * @param nextOffset the offset of the record that follows it, to continue reading from
+ * @param payload    the bytes appended as the record
+ */
+public record JournalRecord(
+        long offset,
+        long nextOffset,
+        byte[] payload
+) {
+}
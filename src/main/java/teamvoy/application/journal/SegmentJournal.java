@@ -0,0 +1,277 @@
+package teamvoy.application.journal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only journal of byte records, stored in fixed-size memory-mapped segment files.
+ * A record is a 4-byte length, a 4-byte CRC32C checksum and the payload. Records are addressed by offsets
+ * that grow with every appended byte; a segment file is named after the offset of its first record, so
+ * a reader finds the record at any offset without scanning. When a record doesn't fit the active segment,
+ * a new segment starts at the next offset and the rest of the old one stays unused.
+ * <p>
+ * Appends are serialized and made visible to readers batch by batch, through the volatile end offset;
+ * any number of threads can read concurrently. Writers hold a {@link ReentrantLock} rather than the monitor,
+ * so a virtual thread forcing a segment to disk doesn't pin its carrier. On open, the last segment is scanned up to the first
+ * missing or corrupt record, which becomes the end of the journal. Only the newest segments are retained.
+ * The directory is locked, so only one journal instance can write to it.
+ */
+public class SegmentJournal implements AutoCloseable {
+    private static final int HEADER_SIZE = 8;
+    private static final String SEGMENT_SUFFIX = ".segment";
+
+    private final Path directory;
+    private final int segmentSize;
+    private final int retainedSegments;
+    private final FileChannel lockChannel;
+    private final FileLock lock;
+    private final ConcurrentSkipListMap<Long, MappedByteBuffer> segments = new ConcurrentSkipListMap<>();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final CRC32C crc = new CRC32C();
+
+    private volatile long endOffset;
+
+    public SegmentJournal(Path directory, int segmentSize, int retainedSegments) {
+        if (segmentSize <= HEADER_SIZE || retainedSegments < 1) {
+            throw new IllegalArgumentException("Segments must fit a record header and at least one must be retained");
+        }
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.retainedSegments = retainedSegments;
+
+        try {
+            Files.createDirectories(directory);
+            lockChannel = FileChannel.open(directory.resolve(".lock"),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            lock = tryLock(lockChannel);
+            if (lock == null) {
+                lockChannel.close();
+                throw new IllegalStateException("Journal " + directory + " is already open");
+            }
+            recover();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can't open journal " + directory, e);
+        }
+    }
+
+    /**
+     * Appends records in order and makes them visible to readers.
+     * The records are in the page cache once this returns; call {@link #force()} to write them to disk.
+     *
+     * @param payloads the non-empty records to append
+     * @return the end offset of the journal after the last appended record
+     * @throws IllegalArgumentException if a record is empty or larger than a segment
+     */
+    public long append(List<byte[]> payloads) {
+        writeLock.lock();
+        try {
+            long offset = endOffset;
+
+            for (byte[] payload : payloads) {
+                int recordSize = HEADER_SIZE + payload.length;
+                if (payload.length == 0 || recordSize > segmentSize) {
+                    throw new IllegalArgumentException("Record of " + payload.length
+                            + " bytes doesn't fit a segment");
+                }
+
+                Map.Entry<Long, MappedByteBuffer> segment = segments.lastEntry();
+                if (segment == null || offset - segment.getKey() + recordSize > segmentSize) {
+                    segment = Map.entry(offset, roll(offset, segment));
+                }
+
+                int position = (int) (offset - segment.getKey());
+                MappedByteBuffer buffer = segment.getValue();
+                crc.reset();
+                crc.update(payload);
+                buffer.put(position + HEADER_SIZE, payload);
+                buffer.putInt(position + 4, (int) crc.getValue());
+                buffer.putInt(position, payload.length);
+                offset += recordSize;
+            }
+
+            endOffset = offset;
+            return offset;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Writes the records appended so far from the page cache to disk.
+     */
+    public void force() {
+        writeLock.lock();
+        try {
+            Map.Entry<Long, MappedByteBuffer> segment = segments.lastEntry();
+            if (segment != null) {
+                segment.getValue().force();
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Reads records starting at an offset, at most up to the current end of the journal.
+     *
+     * @param offset     the offset of the first record to read, such as the next offset of the last record read
+     * @param maxRecords the maximum number of records to return
+     * @return the records in order; empty if the offset is the end of the journal
+     * @throws IllegalArgumentException if the offset lies before the oldest retained segment or after the end
+     */
+    public List<JournalRecord> read(long offset, int maxRecords) {
+        long end = endOffset;
+        if (offset < startOffset() || offset > end) {
+            throw new IllegalArgumentException("Offset " + offset + " is outside the journal [" + startOffset()
+                    + ", " + end + "]");
+        }
+
+        List<JournalRecord> records = new ArrayList<>(Math.min(maxRecords, 1024));
+        while (offset < end && records.size() < maxRecords) {
+            Map.Entry<Long, MappedByteBuffer> segment = segments.floorEntry(offset);
+            if (segment == null) {
+                throw new IllegalArgumentException("Offset " + offset + " is no longer retained");
+            }
+            int position = (int) (offset - segment.getKey());
+            byte[] payload = new byte[segment.getValue().getInt(position)];
+            segment.getValue().get(position + HEADER_SIZE, payload);
+
+            long nextOffset = offset + HEADER_SIZE + payload.length;
+            records.add(new JournalRecord(offset, nextOffset, payload));
+            offset = nextOffset;
+        }
+
+        return records;
+    }
+
+    /**
+     * Returns the offset of the oldest retained record.
+     *
+     * @return the base offset of the oldest segment, or the end offset if the journal is empty
+     */
+    public long startOffset() {
+        Map.Entry<Long, MappedByteBuffer> segment = segments.firstEntry();
+        return segment != null ? segment.getKey() : endOffset;
+    }
+
+    /**
+     * Returns the offset the next appended record will start at.
+     *
+     * @return the end offset of the journal
+     */
+    public long endOffset() {
+        return endOffset;
+    }
+
+    @Override
+    public void close() throws IOException {
+        writeLock.lock();
+        try {
+            force();
+            segments.clear();
+            lock.release();
+            lockChannel.close();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Seals the active segment and starts a new one at the given offset, deleting segments beyond retention.
+     *
+     * @param offset the offset the new segment starts at
+     * @param sealed the segment filled so far, or {@code null} if the journal is empty
+     * @return the buffer of the new segment
+     */
+    private MappedByteBuffer roll(long offset, Map.Entry<Long, MappedByteBuffer> sealed) {
+        if (sealed != null) {
+            sealed.getValue().force();
+        }
+
+        try {
+            MappedByteBuffer segment = map(segmentPath(offset));
+            segments.put(offset, segment);
+
+            while (segments.size() > retainedSegments) {
+                Files.deleteIfExists(segmentPath(segments.pollFirstEntry().getKey()));
+            }
+            return segment;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can't create journal segment at offset " + offset, e);
+        }
+    }
+
+    /**
+     * Maps the existing segments and finds the end of the journal in the newest one.
+     * Whatever follows the last intact record is zeroed, so records appended from there on can't be
+     * followed by leftovers of a torn write.
+     */
+    private void recover() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.filter(path -> path.toString().endsWith(SEGMENT_SUFFIX)).toList()) {
+                String name = file.getFileName().toString();
+                segments.put(Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length())), map(file));
+            }
+        }
+
+        Map.Entry<Long, MappedByteBuffer> last = segments.lastEntry();
+        if (last == null) {
+            return;
+        }
+
+        MappedByteBuffer buffer = last.getValue();
+        int position = 0;
+        while (position + HEADER_SIZE <= segmentSize) {
+            int length = buffer.getInt(position);
+            if (length <= 0 || position + HEADER_SIZE + length > segmentSize) {
+                break;
+            }
+
+            byte[] payload = new byte[length];
+            buffer.get(position + HEADER_SIZE, payload);
+            crc.reset();
+            crc.update(payload);
+            if ((int) crc.getValue() != buffer.getInt(position + 4)) {
+                break;
+            }
+            position += HEADER_SIZE + length;
+        }
+
+        buffer.put(position, new byte[segmentSize - position]);
+        buffer.force();
+        endOffset = last.getKey() + position;
+    }
+
+    private MappedByteBuffer map(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        }
+    }
+
+    private Path segmentPath(long baseOffset) {
+        return directory.resolve(String.format("%020d%s", baseOffset, SEGMENT_SUFFIX));
+    }
+
+    private static FileLock tryLock(FileChannel channel) throws IOException {
+        try {
+            return channel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            return null;
+        }
+    }
+}
@@ -1,11 +1,18 @@
 package teamvoy.application.mapper;
 
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import teamvoy.application.config.MapperConfig;
+import teamvoy.application.dto.laptop.request.LaptopRequestDto;
 import teamvoy.application.dto.laptop.response.LaptopResponseDto;
 import teamvoy.application.entity.Laptop;
 
 @Mapper(config = MapperConfig.class)
 public interface LaptopMapper {
     LaptopResponseDto toDto(Laptop laptop);
+
+    @Mapping(target = "laptopId", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    Laptop toEntity(LaptopRequestDto requestDto);
 }
@@ -5,6 +5,7 @@ import org.mapstruct.Mapping;
 import teamvoy.application.config.MapperConfig;
 import teamvoy.application.dto.order.response.OrderItemResponseDto;
 import teamvoy.application.entity.OrderItem;
+import teamvoy.application.repo.projection.OrderItemRow;
 
 @Mapper(config = MapperConfig.class)
 public interface OrderItemMapper {
@@ -13,4 +14,6 @@ public interface OrderItemMapper {
     @Mapping(target = "model", source = "laptop.model")
     @Mapping(target = "price", source = "laptop.price")
     OrderItemResponseDto toDto(OrderItem orderItem);
+
+    OrderItemResponseDto toDto(OrderItemRow orderItemRow);
 }
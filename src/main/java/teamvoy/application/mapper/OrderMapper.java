@@ -1,11 +1,43 @@
 package teamvoy.application.mapper;
 
+import java.util.List;
+import java.util.Set;
 import org.mapstruct.Mapper;
 import teamvoy.application.config.MapperConfig;
+import teamvoy.application.dto.order.response.OrderItemResponseDto;
 import teamvoy.application.dto.order.response.OrderResponseDto;
+import teamvoy.application.dto.order.response.OrderSummaryResponseDto;
 import teamvoy.application.entity.Order;
+import teamvoy.application.repo.projection.OrderItemRow;
+import teamvoy.application.repo.projection.OrderSummary;
 
 @Mapper(config = MapperConfig.class, uses = OrderItemMapper.class)
 public interface OrderMapper {
     OrderResponseDto toDto(Order order);
+
+    OrderSummaryResponseDto toSummaryDto(OrderSummary orderSummary);
+
+    Set<OrderItemResponseDto> toItemDtos(List<OrderItemRow> orderItemRows);
+
+    /**
+     * Assembles an order from its flat item rows, all of which must belong to the same order.
+     *
+     * @param orderItemRows the non-empty rows of a single order
+     * @return the order with all its items
+     */
+    default OrderResponseDto toDto(List<OrderItemRow> orderItemRows) {
+        OrderItemRow order = orderItemRows.get(0);
+        List<OrderItemRow> itemRows = orderItemRows.stream()
+                .filter(row -> row.laptopId() != null)
+                .toList();
+
+        return new OrderResponseDto(
+                order.orderId(),
+                order.userId(),
+                toItemDtos(itemRows),
+                order.totalAmount(),
+                order.timestamp(),
+                order.orderStatus()
+        );
+    }
 }
@@ -0,0 +1,164 @@
+package teamvoy.application.metrics;
+
+import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+
+/**
+ * Meters of the order lifecycle.
+ * All meters are registered upfront, so recording on the hot path is a couple of atomic updates
+ * without any registry lookups.
+ */
+@Component
+public class OrderMetrics {
+    private final Clock clock;
+    private final Map<OrderOperation, Timer> successTimers = new EnumMap<>(OrderOperation.class);
+    private final Map<OrderOperation, Timer> failureTimers = new EnumMap<>(OrderOperation.class);
+    private final Counter ordersPlaced;
+    private final Counter ordersPaid;
+    private final Counter ordersRejected;
+    private final Counter ordersExpiredByQueue;
+    private final Counter ordersExpiredBySweep;
+    private final Counter stockConflictsRetried;
+    private final Counter stockConflictsExhausted;
+    private final DistributionSummary queueBatchSize;
+    private final DistributionSummary sweepBatchSize;
+
+    public OrderMetrics(MeterRegistry registry) {
+        this.clock = registry.config().clock();
+
+        for (OrderOperation operation : OrderOperation.values()) {
+            successTimers.put(operation, operationTimer(registry, operation, "success"));
+            failureTimers.put(operation, operationTimer(registry, operation, "failure"));
+        }
+
+        this.ordersPlaced = Counter.builder("orders.placed")
+                .description("Orders placed")
+                .register(registry);
+        this.ordersPaid = Counter.builder("orders.paid")
+                .description("Orders marked as paid")
+                .register(registry);
+        this.ordersRejected = Counter.builder("orders.rejected")
+                .description("Orders rejected before placement")
+                .tag("reason", "insufficient_stock")
+                .register(registry);
+        this.ordersExpiredByQueue = expiredCounter(registry, "queue");
+        this.ordersExpiredBySweep = expiredCounter(registry, "sweep");
+        this.stockConflictsRetried = stockConflictCounter(registry, "retried");
+        this.stockConflictsExhausted = stockConflictCounter(registry, "exhausted");
+        this.queueBatchSize = batchSizeSummary(registry, "queue");
+        this.sweepBatchSize = batchSizeSummary(registry, "sweep");
+    }
+
+    /**
+     * Runs an operation and records its latency, tagged with whether it completed or threw.
+     *
+     * @param operation the order operation being executed
+     * @param action    the operation itself
+     * @param <T>       the type of the operation's result
+     * @return the result of the operation
+     */
+    public <T> T record(OrderOperation operation, Supplier<T> action) {
+        long start = clock.monotonicTime();
+
+        try {
+            T result = action.get();
+            successTimers.get(operation).record(clock.monotonicTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (RuntimeException e) {
+            failureTimers.get(operation).record(clock.monotonicTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    /**
+     * Runs an operation without a result and records its latency.
+     *
+     * @param operation the order operation being executed
+     * @param action    the operation itself
+     */
+    public void record(OrderOperation operation, Runnable action) {
+        record(operation, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    public void orderPlaced() {
+        ordersPlaced.increment();
+    }
+
+    public void orderPaid() {
+        ordersPaid.increment();
+    }
+
+    public void orderRejected() {
+        ordersRejected.increment();
+    }
+
+    public void stockConflictRetried() {
+        stockConflictsRetried.increment();
+    }
+
+    public void stockConflictExhausted() {
+        stockConflictsExhausted.increment();
+    }
+
+    /**
+     * Records a chunk of orders released by the expiry queue.
+     *
+     * @param orders the number of expired orders deleted in the chunk
+     */
+    public void ordersExpiredByQueue(int orders) {
+        queueBatchSize.record(orders);
+        ordersExpiredByQueue.increment(orders);
+    }
+
+    /**
+     * Records a chunk of orders released by the reconciliation sweep.
+     *
+     * @param orders the number of expired orders deleted in the chunk
+     */
+    public void ordersExpiredBySweep(int orders) {
+        sweepBatchSize.record(orders);
+        ordersExpiredBySweep.increment(orders);
+    }
+
+    private Timer operationTimer(MeterRegistry registry, OrderOperation operation, String outcome) {
+        return Timer.builder("orders.operation")
+                .description("Latency of order service operations")
+                .tag("method", operation.getMethod())
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    private Counter expiredCounter(MeterRegistry registry, String trigger) {
+        return Counter.builder("orders.expired")
+                .description("Unpaid orders deleted after expiry")
+                .tag("trigger", trigger)
+                .register(registry);
+    }
+
+    private Counter stockConflictCounter(MeterRegistry registry, String outcome) {
+        return Counter.builder("orders.stock.conflicts")
+                .description("Stock updates that lost an optimistic locking race")
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
+    private DistributionSummary batchSizeSummary(MeterRegistry registry, String trigger) {
+        return DistributionSummary.builder("orders.expiry.batch.size")
+                .description("Orders deleted per expiry chunk")
+                .tag("trigger", trigger)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+}
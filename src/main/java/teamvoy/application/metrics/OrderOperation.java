@@ -0,0 +1,19 @@
+package teamvoy.application.metrics;
+
+public enum OrderOperation {
+    PLACE("placeOrder"),
+    PLACE_BATCH("placeOrderBatch"),
+    PAY("markOrderAsPaid"),
+    EXPIRE("expireDueOrders"),
+    SWEEP("deleteNotPaidOrders");
+
+    private final String method;
+
+    OrderOperation(String method) {
+        this.method = method;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+}
@@ -0,0 +1,50 @@
+package teamvoy.application.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import teamvoy.application.config.StockMetricsProperties;
+import teamvoy.application.repo.LaptopRepository;
+
+/**
+ * Stock level gauges of the laptops closest to selling out.
+ * Stock changes on every order, so instead of a gauge per laptop the configured number of laptops
+ * with the least stock is read periodically and published as a single multi-gauge. The read sorts the catalog
+ * on a replica; {@code quantity} is deliberately left unindexed, as every order updates it on the primary.
+ */
+@Component
+public class StockMetrics {
+    private final LaptopRepository laptopRepository;
+    private final StockMetricsProperties properties;
+    private final MultiGauge stockLevels;
+
+    public StockMetrics(LaptopRepository laptopRepository, StockMetricsProperties properties,
+                        MeterRegistry registry) {
+        this.laptopRepository = laptopRepository;
+        this.properties = properties;
+        this.stockLevels = MultiGauge.builder("laptops.stock")
+                .description("Stock of the laptops with the least units left")
+                .baseUnit("units")
+                .register(registry);
+    }
+
+    /**
+     * Refreshes the stock gauges from the database.
+     * Laptops that are no longer among the lowest in stock are removed from the gauge.
+     */
+    @Scheduled(fixedDelayString = "${metrics.stock.refresh-interval:30s}")
+    @Transactional(readOnly = true)
+    public void refresh() {
+        stockLevels.register(laptopRepository.findStockByOrderByQuantityAsc(Limit.of(properties.topN())).stream()
+                .map(laptop -> MultiGauge.Row.of(Tags.of(
+                                "laptop_id", laptop.laptopId().toString(),
+                                "brand", laptop.brand(),
+                                "model", laptop.model()),
+                        laptop.quantity()))
+                .toList(), true);
+    }
+}
@@ -0,0 +1,94 @@
+package teamvoy.application.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.List;
+import org.springframework.stereotype.Component;
+import teamvoy.application.config.OrderEventProperties;
+import teamvoy.application.dto.order.event.OrderEvent;
+import teamvoy.application.dto.order.event.OrderEventBatch;
+import teamvoy.application.journal.JournalRecord;
+import teamvoy.application.journal.SegmentJournal;
+
+/**
+ * Local, append-only journal of order events relayed from the outbox.
+ * Consumers on this node tail it by offset: they keep the next offset of the last batch they
+ * processed and read on from there, at their own pace and without coordinating with each other.
+ * Delivery is at least once; an event may appear twice after a relay failure and is identified by its ID.
+ */
+@Component
+public class OrderEventJournal implements AutoCloseable {
+    private final SegmentJournal journal;
+    private final ObjectMapper objectMapper;
+
+    public OrderEventJournal(OrderEventProperties properties, ObjectMapper objectMapper) {
+        this.journal = new SegmentJournal(properties.journalDirectory(),
+                Math.toIntExact(properties.segmentSize().toBytes()), properties.retainedSegments());
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Appends serialized events and writes them to disk.
+     *
+     * @param payloads the JSON payloads of the events, in order
+     */
+    public void append(List<byte[]> payloads) {
+        journal.append(payloads);
+        journal.force();
+    }
+
+    /**
+     * Reads the events following an offset.
+     *
+     * @param offset    the offset to read from, e.g. {@link #startOffset()} or the next offset of the previous batch
+     * @param maxEvents the maximum number of events to return
+     * @return the events read and the offset to continue from
+     * @throws IllegalArgumentException if the offset is not within the retained journal
+     */
+    public OrderEventBatch read(long offset, int maxEvents) {
+        List<JournalRecord> records = journal.read(offset, maxEvents);
+        List<OrderEvent> events = records.stream()
+                .map(record -> deserialize(record.payload()))
+                .toList();
+
+        return new OrderEventBatch(events, records.isEmpty() ? offset : records.get(records.size() - 1).nextOffset());
+    }
+
+    /**
+     * Returns the offset of the oldest retained event, to read the whole journal from.
+     *
+     * @return the start offset of the journal
+     */
+    public long startOffset() {
+        return journal.startOffset();
+    }
+
+    /**
+     * Returns the offset the next relayed event will be appended at.
+     *
+     * @return the end offset of the journal
+     */
+    public long endOffset() {
+        return journal.endOffset();
+    }
+
+    @Override
+    public void close() throws IOException {
+        journal.close();
+    }
+
+    /**
+     * Deserializes the JSON payload of an event.
+     *
+     * @param payload the payload read from the journal
+     * @return the event
+     * @throws IllegalStateException if the payload is not a valid event
+     */
+    private OrderEvent deserialize(byte[] payload) {
+        try {
+            return objectMapper.readValue(payload, OrderEvent.class);
+        } catch (IOException e) {
+            throw new IllegalStateException("Can't deserialize order event", e);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package teamvoy.application.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import teamvoy.application.dto.order.event.OrderEvent;
+import teamvoy.application.dto.order.event.OrderEventItem;
+import teamvoy.application.dto.order.event.OrderEventSales;
+import teamvoy.application.entity.Order;
+import teamvoy.application.entity.OutboxEvent;
+import teamvoy.application.entity.enums.OrderEventType;
+import teamvoy.application.entity.generator.TimeOrderedUuids;
+import teamvoy.application.repo.projection.OrderItemRow;
+
+/**
+ * Records order events in the {@code outbox_events} table, in the transaction that changes the orders.
+ * An event is committed if and only if the change it describes is, and publishing costs one batched
+ * insert on the connection the transaction already holds. {@link OutboxRelay} moves committed events
+ * to the order event journal.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderEventOutbox {
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Records that an order was placed.
+     *
+     * @param order the placed order, with its items and their laptops
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void orderPlaced(Order order) {
+        List<OrderEventItem> items = order.getOrderItems().stream()
+                .map(item -> new OrderEventItem(item.getLaptop().getLaptopId(), item.getQuantity(),
+                        item.getTotalPrice()))
+                .toList();
+
+        append(new OrderEvent(TimeOrderedUuids.next(), OrderEventType.PLACED, LocalDateTime.now(),
+                order.getOrderId(), order.getUserId(), order.getTotalAmount(), order.getTimestamp(), items));
+    }
+
+    /**
+     * Records that orders were paid or expired.
+     *
+     * @param type          the event type, {@link OrderEventType#PAID} or {@link OrderEventType#EXPIRED}
+     * @param orderItemRows the affected orders joined with their items
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void ordersChanged(OrderEventType type, List<OrderItemRow> orderItemRows) {
+        Map<UUID, List<OrderItemRow>> rowsByOrder = new LinkedHashMap<>();
+        for (OrderItemRow row : orderItemRows) {
+            rowsByOrder.computeIfAbsent(row.orderId(), orderId -> new ArrayList<>()).add(row);
+        }
+
+        LocalDateTime occurredAt = LocalDateTime.now();
+        rowsByOrder.values().forEach(rows -> {
+            OrderItemRow order = rows.get(0);
+            List<OrderEventItem> items = rows.stream()
+                    .filter(row -> row.laptopId() != null)
+                    .map(row -> new OrderEventItem(row.laptopId(), row.quantity(), row.totalPrice()))
+                    .toList();
+
+            append(new OrderEvent(TimeOrderedUuids.next(), type, occurredAt, order.orderId(), order.userId(),
+                    order.totalAmount(), order.timestamp(), items));
+        });
+    }
+
+    /**
+     * Serializes an event to the JSON payload stored in the outbox.
+     *
+     * @param event the event to serialize
+     * @return the JSON payload
+     * @throws IllegalStateException if the event can't be serialized
+     */
+    public String toPayload(OrderEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Can't serialize order event " + event.eventId(), e);
+        }
+    }
+
+    /**
+     * Reads the sales figures of an event from its JSON payload.
+     *
+     * @param payload the UTF-8 encoded JSON payload
+     * @return the type, time and items of the event
+     * @throws IllegalStateException if the payload is not a valid event
+     */
+    public OrderEventSales salesFromPayload(byte[] payload) {
+        try {
+            return objectMapper.readValue(payload, OrderEventSales.class);
+        } catch (IOException e) {
+            throw new IllegalStateException("Can't deserialize order event", e);
+        }
+    }
+
+    /**
+     * Serializes an event and persists it to the outbox.
+     *
+     * @param event the event to record
+     */
+    private void append(OrderEvent event) {
+        entityManager.persist(new OutboxEvent(event.eventId(), toPayload(event)));
+    }
+}
@@ -0,0 +1,73 @@
+package teamvoy.application.outbox;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import teamvoy.application.config.OrderEventProperties;
+import teamvoy.application.entity.OutboxEvent;
+import teamvoy.application.repo.OutboxEventRepository;
+import teamvoy.application.service.SalesReportService;
+
+/**
+ * Moves committed order events from the outbox to the order event journal in batches.
+ * Each batch is locked with {@code SKIP LOCKED}, added to the sales rollups, appended to the journal, written
+ * to disk and deleted from the outbox in one transaction, so instances sharing the outbox relay disjoint
+ * batches and an event is only deleted once it is durable in a journal. If the transaction fails after the
+ * append, the batch is relayed again; the rollups are rolled back with the transaction and count every
+ * event once.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxRelay {
+    private final OutboxEventRepository outboxEventRepository;
+    private final OrderEventJournal orderEventJournal;
+    private final OrderEventProperties orderEventProperties;
+    private final TransactionTemplate transactionTemplate;
+    private final OrderEventOutbox orderEventOutbox;
+    private final SalesReportService salesReportService;
+
+    /**
+     * Relays batches of events until the outbox holds less than a full batch.
+     * Scheduled to run every 100 milliseconds by default.
+     *
+     * @return the number of relayed events
+     */
+    @Scheduled(fixedDelayString = "${orders.events.relay-interval:100ms}")
+    public int relay() {
+        int relayed = 0;
+        Integer batchSize;
+        do {
+            batchSize = transactionTemplate.execute(status -> relayBatch());
+            relayed += batchSize == null ? 0 : batchSize;
+        } while (batchSize != null && batchSize == orderEventProperties.relayBatchSize());
+
+        return relayed;
+    }
+
+    /**
+     * Relays the oldest batch of events that no other instance is relaying.
+     * Must be called within a transaction.
+     *
+     * @return the number of relayed events
+     */
+    private int relayBatch() {
+        List<OutboxEvent> events = outboxEventRepository.findOldestForUpdateSkipLocked(
+                Limit.of(orderEventProperties.relayBatchSize()));
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        List<byte[]> payloads = events.stream()
+                .map(event -> event.getPayload().getBytes(StandardCharsets.UTF_8))
+                .toList();
+        salesReportService.recordOrderEvents(payloads.stream().map(orderEventOutbox::salesFromPayload).toList());
+        orderEventJournal.append(payloads);
+        outboxEventRepository.deleteAll(events);
+
+        return events.size();
+    }
+}
@@ -0,0 +1,21 @@
+package teamvoy.application.repo;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import teamvoy.application.entity.ExpiredOrder;
+
+public interface ExpiredOrderRepository extends JpaRepository<ExpiredOrder, UUID> {
+    @Modifying
+    @Query("insert into ExpiredOrder (orderId, expiredAt) "
+            + "select o.orderId, :expiredAt from Order o where o.orderId in :orderIds")
+    int insertAll(@Param("orderIds") Collection<UUID> orderIds, @Param("expiredAt") LocalDateTime expiredAt);
+
+    @Modifying
+    @Query("delete from ExpiredOrder e where e.expiredAt < :expiredBefore")
+    int deleteExpiredBefore(@Param("expiredBefore") LocalDateTime expiredBefore);
+}
@@ -1,8 +1,51 @@
 package teamvoy.application.repo;
 
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import teamvoy.application.entity.Laptop;
+import teamvoy.application.repo.projection.LaptopStock;
 
 public interface LaptopRepository extends JpaRepository<Laptop, UUID> {
+    @Query("select new teamvoy.application.repo.projection.LaptopStock(l.laptopId, l.brand, l.model, l.quantity) "
+            + "from Laptop l order by l.quantity, l.laptopId")
+    List<LaptopStock> findStockByOrderByQuantityAsc(Limit limit);
+
+    List<Laptop> findAllByOrderByCreatedAtAscLaptopIdAsc(Limit limit);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Laptop> streamAllByOrderByCreatedAtAscLaptopIdAsc();
+
+    @Query("select l from Laptop l "
+            + "where l.createdAt > :createdAt or (l.createdAt = :createdAt and l.laptopId > :laptopId) "
+            + "order by l.createdAt, l.laptopId")
+    List<Laptop> findAllAfter(@Param("createdAt") LocalDateTime createdAt,
+                              @Param("laptopId") UUID laptopId,
+                              Limit limit);
+
+    @Modifying
+    @Query("update Laptop l set l.quantity = l.quantity - :quantity, l.version = l.version + 1 "
+            + "where l.laptopId = :laptopId and l.quantity >= :quantity")
+    int decreaseQuantity(@Param("laptopId") UUID laptopId, @Param("quantity") int quantity);
+
+    @Modifying
+    @Query(value = "update laptops l set quantity = quantity + ("
+            + "select sum(oi.quantity) from order_items oi "
+            + "where oi.laptop_id = l.laptop_id and oi.order_id in (:orderIds)), version = version + 1 "
+            + "where l.laptop_id in (select oi.laptop_id from order_items oi where oi.order_id in (:orderIds))",
+            nativeQuery = true)
+    int increaseQuantityByOrderItems(@Param("orderIds") Collection<UUID> orderIds);
 }
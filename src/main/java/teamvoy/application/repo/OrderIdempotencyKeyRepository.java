@@ -0,0 +1,23 @@
+package teamvoy.application.repo;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import teamvoy.application.entity.OrderIdempotencyKey;
+
+public interface OrderIdempotencyKeyRepository extends JpaRepository<OrderIdempotencyKey, String> {
+    @Modifying
+    @Query("insert into OrderIdempotencyKey (idempotencyKey, requestHash, orderId, createdAt) "
+            + "values (:idempotencyKey, :requestHash, :orderId, :createdAt)")
+    int insert(@Param("idempotencyKey") String idempotencyKey,
+               @Param("requestHash") String requestHash,
+               @Param("orderId") UUID orderId,
+               @Param("createdAt") LocalDateTime createdAt);
+
+    @Modifying
+    @Query("delete from OrderIdempotencyKey k where k.createdAt < :createdBefore")
+    int deleteCreatedBefore(@Param("createdBefore") LocalDateTime createdBefore);
+}
@@ -1,14 +1,78 @@
 package teamvoy.application.repo;
 
+import jakarta.persistence.LockModeType;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
-import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import teamvoy.application.entity.Order;
 import teamvoy.application.entity.enums.OrderStatus;
+import teamvoy.application.repo.projection.LaptopQuantity;
+import teamvoy.application.repo.projection.OrderItemRow;
+import teamvoy.application.repo.projection.OrderSummary;
+import teamvoy.application.repo.projection.OrderTimestamp;
 
 public interface OrderRepository extends JpaRepository<Order, UUID> {
-    @EntityGraph(attributePaths = "orderItems")
-    List<Order> findAllByOrderStatusAndTimestampBefore(OrderStatus orderStatus, LocalDateTime timestamp);
+    @Query("select new teamvoy.application.repo.projection.OrderItemRow("
+            + "o.orderId, o.userId, o.totalAmount, o.timestamp, o.orderStatus, "
+            + "l.laptopId, l.brand, l.model, l.price, oi.quantity, oi.totalPrice) "
+            + "from Order o left join o.orderItems oi left join oi.laptop l "
+            + "where o.orderId = :orderId")
+    List<OrderItemRow> findOrderItemRowsByOrderId(@Param("orderId") UUID orderId);
+
+    @Query("select new teamvoy.application.repo.projection.OrderItemRow("
+            + "o.orderId, o.userId, o.totalAmount, o.timestamp, o.orderStatus, "
+            + "l.laptopId, l.brand, l.model, l.price, oi.quantity, oi.totalPrice) "
+            + "from Order o left join o.orderItems oi left join oi.laptop l "
+            + "where o.orderId in :orderIds")
+    List<OrderItemRow> findOrderItemRowsByOrderIdIn(@Param("orderIds") Collection<UUID> orderIds);
+
+    @Query("select o.orderStatus from Order o where o.orderId = :orderId")
+    Optional<OrderStatus> findOrderStatusById(@Param("orderId") UUID orderId);
+
+    @Query("select new teamvoy.application.repo.projection.OrderSummary("
+            + "o.orderId, o.userId, o.totalAmount, o.timestamp, o.orderStatus) "
+            + "from Order o where o.userId = :userId order by o.timestamp desc")
+    List<OrderSummary> findSummariesByUserId(@Param("userId") UUID userId, Pageable pageable);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select o.orderId from Order o "
+            + "where o.orderStatus = :orderStatus and o.timestamp < :timestamp "
+            + "order by o.timestamp")
+    List<UUID> findIdsForUpdateByOrderStatusAndTimestampBefore(@Param("orderStatus") OrderStatus orderStatus,
+                                                               @Param("timestamp") LocalDateTime timestamp,
+                                                               Limit limit);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select o.orderId from Order o where o.orderId in :orderIds and o.orderStatus = :orderStatus")
+    List<UUID> findIdsForUpdateByOrderIdInAndOrderStatus(@Param("orderIds") Collection<UUID> orderIds,
+                                                         @Param("orderStatus") OrderStatus orderStatus);
+
+    @Query("select new teamvoy.application.repo.projection.OrderTimestamp(o.orderId, o.timestamp) "
+            + "from Order o where o.orderStatus = :orderStatus order by o.timestamp")
+    List<OrderTimestamp> findTimestampsByOrderStatus(@Param("orderStatus") OrderStatus orderStatus, Limit limit);
+
+    @Query("select new teamvoy.application.repo.projection.LaptopQuantity(oi.laptop.laptopId, sum(oi.quantity)) "
+            + "from OrderItem oi where oi.orderId in :orderIds group by oi.laptop.laptopId")
+    List<LaptopQuantity> sumQuantitiesByOrderIds(@Param("orderIds") Collection<UUID> orderIds);
+
+    @Modifying
+    @Query("update Order o set o.orderStatus = :newStatus "
+            + "where o.orderId = :orderId and o.orderStatus = :orderStatus and o.timestamp > :placedAfter")
+    int updateOrderStatus(@Param("orderId") UUID orderId,
+                          @Param("orderStatus") OrderStatus orderStatus,
+                          @Param("newStatus") OrderStatus newStatus,
+                          @Param("placedAfter") LocalDateTime placedAfter);
+
+    @Modifying
+    @Query(value = "delete from order_items where order_id in (:orderIds)", nativeQuery = true)
+    int deleteOrderItemsByOrderIds(@Param("orderIds") Collection<UUID> orderIds);
 }
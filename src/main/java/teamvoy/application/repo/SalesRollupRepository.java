@@ -0,0 +1,32 @@
+package teamvoy.application.repo;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import teamvoy.application.entity.SalesRollup;
+import teamvoy.application.entity.SalesRollupId;
+import teamvoy.application.entity.enums.OrderEventType;
+
+public interface SalesRollupRepository extends JpaRepository<SalesRollup, SalesRollupId> {
+    @Modifying
+    @Query(value = "insert into sales_rollups (bucket_start, laptop_id, event_type, units, amount) "
+            + "values (:bucketStart, :laptopId, :#{#eventType.name()}, :units, :amount) "
+            + "on duplicate key update units = units + values(units), amount = amount + values(amount)",
+            nativeQuery = true)
+    int add(@Param("bucketStart") LocalDateTime bucketStart,
+            @Param("laptopId") UUID laptopId,
+            @Param("eventType") OrderEventType eventType,
+            @Param("units") long units,
+            @Param("amount") BigDecimal amount);
+
+    @Query("select r from SalesRollup r "
+            + "where r.bucketStart >= :from and r.bucketStart < :to "
+            + "order by r.bucketStart, r.laptopId")
+    List<SalesRollup> findAllByBucketStartInRange(@Param("from") LocalDateTime from,
+                                                  @Param("to") LocalDateTime to);
+}
@@ -0,0 +1,34 @@
+package teamvoy.application.repo;
+
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import teamvoy.application.entity.SchedulerLease;
+
+public interface SchedulerLeaseRepository extends JpaRepository<SchedulerLease, String> {
+    @Modifying
+    @Query("insert into SchedulerLease (name, lockedBy, lockedAt, lockedUntil) "
+            + "values (:name, :lockedBy, :lockedAt, :lockedUntil)")
+    int insert(@Param("name") String name,
+               @Param("lockedBy") String lockedBy,
+               @Param("lockedAt") LocalDateTime lockedAt,
+               @Param("lockedUntil") LocalDateTime lockedUntil);
+
+    @Modifying
+    @Query("update SchedulerLease l set l.lockedBy = :lockedBy, l.lockedAt = :lockedAt, l.lockedUntil = :lockedUntil "
+            + "where l.name = :name and l.lockedUntil <= :lockedAt")
+    int acquireExpired(@Param("name") String name,
+                       @Param("lockedBy") String lockedBy,
+                       @Param("lockedAt") LocalDateTime lockedAt,
+                       @Param("lockedUntil") LocalDateTime lockedUntil);
+
+    @Modifying
+    @Query("update SchedulerLease l set l.lockedUntil = :lockedUntil "
+            + "where l.name = :name and l.lockedBy = :lockedBy and l.lockedAt = :lockedAt")
+    int release(@Param("name") String name,
+                @Param("lockedBy") String lockedBy,
+                @Param("lockedAt") LocalDateTime lockedAt,
+                @Param("lockedUntil") LocalDateTime lockedUntil);
+}
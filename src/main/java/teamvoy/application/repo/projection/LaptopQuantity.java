@@ -0,0 +1,9 @@
+package teamvoy.application.repo.projection;
+
+import java.util.UUID;
+
+public record LaptopQuantity(
+        UUID laptopId,
+        Long quantity
+) {
+}
@@ -0,0 +1,11 @@
+package teamvoy.application.repo.projection;
+
+import java.util.UUID;
+
+public record LaptopStock(
+        UUID laptopId,
+        String brand,
+        String model,
+        Integer quantity
+) {
+}
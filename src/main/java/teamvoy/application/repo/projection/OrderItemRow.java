@@ -0,0 +1,25 @@
+package teamvoy.application.repo.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import teamvoy.application.entity.enums.OrderStatus;
+
+/**
+ * Flat projection of an order joined with one of its items and the ordered laptop.
+ * Item and laptop fields are {@code null} for an order without items.
+ */
+public record OrderItemRow(
+        UUID orderId,
+        UUID userId,
+        BigDecimal totalAmount,
+        LocalDateTime timestamp,
+        OrderStatus orderStatus,
+        UUID laptopId,
+        String brand,
+        String model,
+        BigDecimal price,
+        Integer quantity,
+        BigDecimal totalPrice
+) {
+}
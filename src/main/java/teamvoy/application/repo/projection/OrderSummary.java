@@ -0,0 +1,15 @@
+package teamvoy.application.repo.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import teamvoy.application.entity.enums.OrderStatus;
+
+public record OrderSummary(
+        UUID orderId,
+        UUID userId,
+        BigDecimal totalAmount,
+        LocalDateTime timestamp,
+        OrderStatus orderStatus
+) {
+}
@@ -0,0 +1,10 @@
+package teamvoy.application.repo.projection;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record OrderTimestamp(
+        UUID orderId,
+        LocalDateTime timestamp
+) {
+}
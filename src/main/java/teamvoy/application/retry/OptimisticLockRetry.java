@@ -0,0 +1,64 @@
+package teamvoy.application.retry;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import teamvoy.application.config.StockRetryProperties;
+import teamvoy.application.metrics.OrderMetrics;
+
+/**
+ * Retries transactions that lost an optimistic locking race on laptop stock.
+ * Attempts are separated by an exponential backoff with full jitter, so concurrent writers that
+ * conflicted once don't keep colliding in lockstep. The number of attempts is bounded, after which
+ * the conflict is propagated to the caller.
+ */
+@Component
+public class OptimisticLockRetry {
+    private final StockRetryProperties properties;
+    private final OrderMetrics orderMetrics;
+
+    public OptimisticLockRetry(StockRetryProperties properties, OrderMetrics orderMetrics) {
+        this.properties = properties;
+        this.orderMetrics = orderMetrics;
+    }
+
+    /**
+     * Runs a transaction, running it again in full if it fails on a stale version.
+     * The transaction must start and end within the action, so every attempt sees fresh data.
+     *
+     * @param action the transaction to run
+     * @param <T>    the type of the transaction's result
+     * @return the result of the first attempt that committed
+     * @throws OptimisticLockingFailureException if all attempts conflicted, or the thread was interrupted
+     *                                           while backing off
+     */
+    public <T> T execute(Supplier<T> action) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return action.get();
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= properties.maxAttempts()) {
+                    orderMetrics.stockConflictExhausted();
+                    throw e;
+                }
+
+                orderMetrics.stockConflictRetried();
+                backOff(attempt, e);
+            }
+        }
+    }
+
+    private void backOff(int attempt, OptimisticLockingFailureException conflict) {
+        long ceilingNanos = Math.min(properties.maxBackoff().toNanos(),
+                properties.initialBackoff().toNanos() << Math.min(attempt - 1, 30));
+
+        try {
+            TimeUnit.NANOSECONDS.sleep(ThreadLocalRandom.current().nextLong(ceilingNanos + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw conflict;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package teamvoy.application.scheduling;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import teamvoy.application.config.OrderExpiryProperties;
+
+/**
+ * In-memory queue of pending orders ordered by their expiry deadline.
+ * Orders become available for polling once their deadline has passed, so expired orders can be
+ * released without scanning the orders table. The queue is bounded; orders that don't fit, and orders
+ * placed by other instances, are left to the periodic reconciliation sweep.
+ */
+@Component
+public class OrderExpiryQueue {
+    private final DelayQueue<ExpiringOrder> queue = new DelayQueue<>();
+    private final int capacity;
+
+    public OrderExpiryQueue(OrderExpiryProperties properties) {
+        this.capacity = properties.queueCapacity();
+    }
+
+    /**
+     * Schedules the expiry of an order once the current transaction commits,
+     * or immediately if no transaction is active.
+     *
+     * @param orderId   the unique identifier of the order
+     * @param expiresAt the time after which the order expires
+     */
+    public void scheduleAfterCommit(UUID orderId, LocalDateTime expiresAt) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            schedule(orderId, expiresAt);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                schedule(orderId, expiresAt);
+            }
+        });
+    }
+
+    /**
+     * Schedules the expiry of an order.
+     *
+     * @param orderId   the unique identifier of the order
+     * @param expiresAt the time after which the order expires
+     * @return {@code true} if the order was queued, {@code false} if the queue is full
+     */
+    public boolean schedule(UUID orderId, LocalDateTime expiresAt) {
+        if (queue.size() >= capacity) {
+            return false;
+        }
+
+        long expiresAtMillis = expiresAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return queue.offer(new ExpiringOrder(orderId, expiresAtMillis));
+    }
+
+    /**
+     * Removes and returns orders whose deadline has passed, earliest first.
+     *
+     * @param maxOrders the maximum number of orders to return
+     * @return the IDs of the expired orders, empty if none is due
+     */
+    public List<UUID> pollExpired(int maxOrders) {
+        List<ExpiringOrder> expired = new ArrayList<>();
+        queue.drainTo(expired, maxOrders);
+
+        return expired.stream()
+                .map(ExpiringOrder::orderId)
+                .toList();
+    }
+
+    public int size() {
+        return queue.size();
+    }
+
+    private record ExpiringOrder(UUID orderId, long expiresAtMillis) implements Delayed {
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(expiresAtMillis - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(expiresAtMillis, ((ExpiringOrder) other).expiresAtMillis);
+        }
+    }
+}
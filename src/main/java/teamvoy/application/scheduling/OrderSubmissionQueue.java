@@ -0,0 +1,118 @@
+package teamvoy.application.scheduling;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.springframework.stereotype.Component;
+import teamvoy.application.config.OrderSubmissionProperties;
+import teamvoy.application.dto.order.request.OrderSubmission;
+import teamvoy.application.dto.order.response.OrderSubmissionResponseDto;
+import teamvoy.application.entity.enums.SubmissionStatus;
+
+/**
+ * Bounded queue of orders accepted for asynchronous placement, together with the latest status of
+ * every submission. Statuses of queued and in-progress submissions are tracked until they are processed,
+ * which is bounded by the queue capacity; final statuses are kept in a size- and time-bounded cache,
+ * so clients can poll them for a while after the submission was processed. On shutdown the queue is closed:
+ * it stops accepting submissions, while the ones already accepted can still be taken and processed.
+ */
+@Component
+public class OrderSubmissionQueue {
+    private final BlockingQueue<OrderSubmission> queue;
+    private final Map<UUID, OrderSubmissionResponseDto> pendingStatuses = new ConcurrentHashMap<>();
+    private final Cache<UUID, OrderSubmissionResponseDto> statuses;
+
+    private volatile boolean closed;
+
+    public OrderSubmissionQueue(OrderSubmissionProperties properties) {
+        this.queue = new ArrayBlockingQueue<>(properties.queueCapacity());
+        this.statuses = Caffeine.newBuilder()
+                .maximumSize(properties.maxStatuses())
+                .expireAfterWrite(properties.statusTtl())
+                .build();
+    }
+
+    /**
+     * Enqueues a submission without blocking.
+     * The queue is checked again after enqueueing, so a submission that raced with {@link #close()} is either
+     * taken back and rejected, or already taken by the consumer, which drains the queue before it stops.
+     *
+     * @param submission the order to place
+     * @return {@code true} if the submission was queued, {@code false} if the queue is full or closed
+     */
+    public boolean offer(OrderSubmission submission) {
+        if (closed) {
+            return false;
+        }
+
+        UUID orderId = submission.orderId();
+        pendingStatuses.put(orderId, new OrderSubmissionResponseDto(orderId, SubmissionStatus.QUEUED, null));
+
+        if (!queue.offer(submission) || (closed && queue.remove(submission))) {
+            pendingStatuses.remove(orderId);
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Waits for at least one submission and takes it together with whatever else is queued.
+     *
+     * @param maxSize the maximum number of submissions to take
+     * @param timeout how long to wait for the first submission
+     * @return the taken submissions in the order they were queued; empty if none arrived within the timeout
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public List<OrderSubmission> pollBatch(int maxSize, Duration timeout) throws InterruptedException {
+        OrderSubmission first = queue.poll(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        if (first == null) {
+            return List.of();
+        }
+
+        List<OrderSubmission> batch = new ArrayList<>(maxSize);
+        batch.add(first);
+        queue.drainTo(batch, maxSize - 1);
+
+        return batch;
+    }
+
+    /**
+     * Stops accepting submissions. Submissions accepted so far stay queued until they are taken.
+     */
+    public void close() {
+        closed = true;
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Records the outcome of processed submissions.
+     * The final status is cached before the pending one is dropped, so a submission never appears unknown.
+     *
+     * @param results the final statuses of the submissions
+     */
+    public void complete(List<OrderSubmissionResponseDto> results) {
+        results.forEach(result -> {
+            statuses.put(result.orderId(), result);
+            pendingStatuses.remove(result.orderId());
+        });
+    }
+
+    public Optional<OrderSubmissionResponseDto> getStatus(UUID orderId) {
+        OrderSubmissionResponseDto pendingStatus = pendingStatuses.get(orderId);
+
+        return pendingStatus != null ? Optional.of(pendingStatus) : Optional.ofNullable(statuses.getIfPresent(orderId));
+    }
+}
@@ -0,0 +1,137 @@
+package teamvoy.application.scheduling;
+
+import java.time.Duration;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import teamvoy.application.config.OrderSubmissionProperties;
+import teamvoy.application.dto.order.request.OrderSubmission;
+import teamvoy.application.dto.order.response.OrderSubmissionResponseDto;
+import teamvoy.application.entity.enums.SubmissionStatus;
+import teamvoy.application.service.OrderService;
+
+/**
+ * Background worker placing queued order submissions in batches.
+ * A single thread drains the submission queue, so all orders of a batch share one transaction and the
+ * stock of each laptop is updated once per batch. If a batch fails as a whole, its submissions are
+ * retried one by one, so a single bad order can't reject the others.
+ * <p>
+ * Queued submissions were already accepted, so on shutdown the queue is closed and the worker places
+ * everything still queued before it reports that it has stopped. It stops after the web server, once no
+ * more submissions can arrive.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderSubmissionWorker implements SmartLifecycle {
+    private static final Duration POLL_TIMEOUT = Duration.ofMillis(100);
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private final OrderSubmissionQueue orderSubmissionQueue;
+    private final OrderService orderService;
+    private final OrderSubmissionProperties orderSubmissionProperties;
+
+    private volatile Thread worker;
+    private volatile Runnable stopCallback;
+
+    @Override
+    public void start() {
+        worker = new Thread(this::run, "order-submission-worker");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * Closes the submission queue and waits until the worker has placed the submissions left in it.
+     */
+    @Override
+    public void stop() {
+        Thread current = worker;
+        orderSubmissionQueue.close();
+
+        if (current != null) {
+            try {
+                current.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Closes the submission queue without waiting; the worker runs the callback once it has placed
+     * the submissions left in it.
+     *
+     * @param callback notifies the context that the worker has stopped
+     */
+    @Override
+    public void stop(Runnable callback) {
+        if (worker == null) {
+            callback.run();
+            return;
+        }
+
+        stopCallback = callback;
+        orderSubmissionQueue.close();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return worker != null;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    /**
+     * Places batches until the queue is closed and empty.
+     * Whether the queue is closed is read before polling it, so a submission accepted before it was closed
+     * is either polled here or taken back by {@link OrderSubmissionQueue#offer}.
+     */
+    private void run() {
+        try {
+            while (true) {
+                boolean closed = orderSubmissionQueue.isClosed();
+                List<OrderSubmission> batch = orderSubmissionQueue.pollBatch(
+                        orderSubmissionProperties.batchSize(), POLL_TIMEOUT);
+
+                if (!batch.isEmpty()) {
+                    orderSubmissionQueue.complete(place(batch));
+                } else if (closed) {
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            worker = null;
+            Runnable callback = stopCallback;
+            if (callback != null) {
+                callback.run();
+            }
+        }
+    }
+
+    /**
+     * Places a batch of submissions, falling back to placing them one by one if the batch fails.
+     *
+     * @param batch the submissions to place
+     * @return the outcome of every submission
+     */
+    private List<OrderSubmissionResponseDto> place(List<OrderSubmission> batch) {
+        try {
+            return orderService.placeOrderBatch(batch);
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                return List.of(new OrderSubmissionResponseDto(
+                        batch.get(0).orderId(), SubmissionStatus.REJECTED, e.getMessage()));
+            }
+
+            return batch.stream()
+                    .flatMap(submission -> place(List.of(submission)).stream())
+                    .toList();
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package teamvoy.application.scheduling;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import teamvoy.application.config.SchedulerLeaseProperties;
+import teamvoy.application.repo.SchedulerLeaseRepository;
+
+/**
+ * Database-backed leases that let only one of several instances sharing a database run a scheduled task.
+ * A lease is a row in {@code scheduler_leases}; an instance takes it with a conditional update that only
+ * matches an expired lease, or by inserting the row on first use, so exactly one concurrent attempt wins.
+ * <p>
+ * A lease is held for at most {@code scheduling.lease.lock-at-most-for}, after which another instance
+ * takes over, e.g. when the holder died mid-run. When the task finishes, the lease is kept until
+ * {@code scheduling.lease.lock-at-least-for} has passed since it was taken, so instances whose schedules
+ * or clocks are slightly off don't repeat the same run right after it.
+ */
+@Slf4j
+@Component
+public class SchedulerLeases {
+    private final SchedulerLeaseRepository schedulerLeaseRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final SchedulerLeaseProperties properties;
+    private final String nodeId;
+
+    public SchedulerLeases(SchedulerLeaseRepository schedulerLeaseRepository,
+                           TransactionTemplate transactionTemplate,
+                           SchedulerLeaseProperties properties) {
+        this.schedulerLeaseRepository = schedulerLeaseRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.nodeId = properties.nodeId() != null && !properties.nodeId().isBlank()
+                ? properties.nodeId()
+                : ManagementFactory.getRuntimeMXBean().getName() + "/" + UUID.randomUUID();
+    }
+
+    /**
+     * Runs a task if this instance can take the lease with the specified name, then releases the lease.
+     * Must be called outside a transaction, so the lease is visible to other instances while the task runs.
+     *
+     * @param name the name of the lease, shared by all instances running the task
+     * @param task the task to run while holding the lease
+     * @return {@code true} if the task was run, {@code false} if another instance holds the lease
+     */
+    public boolean runExclusively(String name, Runnable task) {
+        LocalDateTime lockedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        if (!tryAcquire(name, lockedAt)) {
+            return false;
+        }
+
+        try {
+            task.run();
+        } finally {
+            release(name, lockedAt);
+        }
+        return true;
+    }
+
+    /**
+     * Takes the lease with the specified name if it has expired or doesn't exist yet.
+     *
+     * @param name     the name of the lease
+     * @param lockedAt the time the lease is taken at, truncated to the precision of the column
+     * @return {@code true} if this instance now holds the lease, {@code false} if another instance does
+     */
+    boolean tryAcquire(String name, LocalDateTime lockedAt) {
+        LocalDateTime lockedUntil = lockedAt.plus(properties.lockAtMostFor());
+
+        Integer acquired = transactionTemplate.execute(status ->
+                schedulerLeaseRepository.acquireExpired(name, nodeId, lockedAt, lockedUntil));
+        if (acquired != null && acquired == 1) {
+            return true;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    schedulerLeaseRepository.insert(name, nodeId, lockedAt, lockedUntil));
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Shortens a lease held by this instance to the minimum hold time.
+     * A lease that expired and was taken over in the meantime is left alone. A failed release is only
+     * logged, since the lease expires on its own.
+     *
+     * @param name     the name of the lease
+     * @param lockedAt the time the lease was taken at
+     */
+    private void release(String name, LocalDateTime lockedAt) {
+        LocalDateTime heldUntil = lockedAt.plus(properties.lockAtLeastFor());
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime lockedUntil = heldUntil.isAfter(now) ? heldUntil : now;
+
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    schedulerLeaseRepository.release(name, nodeId, lockedAt, lockedUntil));
+        } catch (DataAccessException e) {
+            log.warn("Failed to release lease {}, it expires at the latest after {}",
+                    name, properties.lockAtMostFor(), e);
+        }
+    }
+}
@@ -0,0 +1,364 @@
+package teamvoy.application.search;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import teamvoy.application.dto.laptop.request.LaptopSearchRequestDto;
+import teamvoy.application.entity.Laptop;
+
+/**
+ * In-memory search index over the laptop catalog.
+ * Every indexed laptop gets a dense ordinal. Brand, processor and RAM are indexed as bitmaps of ordinals
+ * per value, so equality filters are resolved by intersecting bitmaps. Price and creation time are kept
+ * in primitive arrays together with the ordinals sorted by each of them: price ranges are resolved by
+ * binary search over the price order, and results are read in the requested order without sorting the
+ * whole match set. Small match sets are sorted directly instead of scanning the sorted order.
+ * Laptops are never removed from the catalog, so the index only grows, and the latest indexed creation time
+ * tells where to resume reading laptops added by other instances.
+ */
+@Component
+public class LaptopSearchIndex {
+    public static final String SORT_BY_PRICE = "price";
+    public static final String SORT_BY_CREATED_AT = "createdAt";
+
+    private static final int PRICE_SCALE = 2;
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int SORT_CANDIDATES_THRESHOLD = 4096;
+    private static final Sort.Order DEFAULT_ORDER = Sort.Order.asc(SORT_BY_CREATED_AT);
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<UUID, Integer> ordinals = new HashMap<>();
+    private final Map<String, BitSet> brands = new HashMap<>();
+    private final Map<String, BitSet> processors = new HashMap<>();
+    private final Map<Integer, BitSet> rams = new HashMap<>();
+
+    private UUID[] laptopIds = new UUID[INITIAL_CAPACITY];
+    private long[] prices = new long[INITIAL_CAPACITY];
+    private long[] createdAts = new long[INITIAL_CAPACITY];
+    private int[] byPrice = new int[0];
+    private int[] byCreatedAt = new int[0];
+    private int size;
+    private LocalDateTime latestCreatedAt;
+
+    /**
+     * Adds laptops to the index. Laptops that are already indexed are skipped.
+     *
+     * @param laptops the laptops to add
+     * @return the number of laptops that were not indexed yet
+     */
+    public int addAll(Collection<Laptop> laptops) {
+        lock.writeLock().lock();
+        try {
+            int[] added = new int[laptops.size()];
+            int addedCount = 0;
+
+            for (Laptop laptop : laptops) {
+                if (ordinals.containsKey(laptop.getLaptopId())) {
+                    continue;
+                }
+
+                int ordinal = size++;
+                ensureCapacity(size);
+                ordinals.put(laptop.getLaptopId(), ordinal);
+                laptopIds[ordinal] = laptop.getLaptopId();
+                prices[ordinal] = toMinorUnits(laptop.getPrice(), RoundingMode.HALF_UP);
+                createdAts[ordinal] = toEpochNanos(laptop.getCreatedAt());
+                brands.computeIfAbsent(normalize(laptop.getBrand()), value -> new BitSet()).set(ordinal);
+                processors.computeIfAbsent(normalize(laptop.getProcessor()), value -> new BitSet()).set(ordinal);
+                rams.computeIfAbsent(laptop.getRam(), value -> new BitSet()).set(ordinal);
+                added[addedCount++] = ordinal;
+
+                if (latestCreatedAt == null || laptop.getCreatedAt().isAfter(latestCreatedAt)) {
+                    latestCreatedAt = laptop.getCreatedAt();
+                }
+            }
+
+            added = Arrays.copyOf(added, addedCount);
+            byPrice = merge(byPrice, added, prices);
+            byCreatedAt = merge(byCreatedAt, added, createdAts);
+
+            return addedCount;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Finds the laptops matching all given filters.
+     * Brand and processor are matched case-insensitively, the price range is inclusive.
+     * Results are sorted by {@value #SORT_BY_PRICE} or {@value #SORT_BY_CREATED_AT},
+     * by creation time ascending if no sort is requested.
+     *
+     * @param criteria the filters to apply; {@code null} fields are not filtered on
+     * @param pageable the page to return and its sort
+     * @return the IDs of the laptops on the requested page, in the requested order
+     * @throws ResponseStatusException with status 400 if the sort is on an unsupported property
+     *                                 or on more than one property
+     */
+    public List<UUID> search(LaptopSearchRequestDto criteria, Pageable pageable) {
+        Sort.Order order = getOrder(pageable.getSort());
+        boolean sortByPrice = SORT_BY_PRICE.equals(order.getProperty());
+        long minPrice = criteria.minPrice() == null
+                ? Long.MIN_VALUE : toMinorUnits(criteria.minPrice(), RoundingMode.CEILING);
+        long maxPrice = criteria.maxPrice() == null
+                ? Long.MAX_VALUE : toMinorUnits(criteria.maxPrice(), RoundingMode.FLOOR);
+
+        lock.readLock().lock();
+        try {
+            BitSet candidates = matchAttributes(criteria);
+            if (candidates != null && candidates.isEmpty()) {
+                return List.of();
+            }
+
+            long[] keys = sortByPrice ? prices : createdAts;
+            if (candidates != null && candidates.cardinality() <= SORT_CANDIDATES_THRESHOLD) {
+                return sortCandidates(candidates, minPrice, maxPrice, keys, order.isDescending(), pageable);
+            }
+
+            int[] sorted = sortByPrice ? byPrice : byCreatedAt;
+            int from = sortByPrice ? lowerBound(byPrice, minPrice) : 0;
+            int to = sortByPrice ? lowerBound(byPrice, maxPrice == Long.MAX_VALUE ? maxPrice : maxPrice + 1) : size;
+
+            return scanSorted(sorted, from, to, candidates, minPrice, maxPrice, order.isDescending(), pageable);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Optional<LocalDateTime> getLatestCreatedAt() {
+        lock.readLock().lock();
+        try {
+            return Optional.ofNullable(latestCreatedAt);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Intersects the bitmaps of all equality filters, starting with the most selective one.
+     *
+     * @param criteria the filters to apply
+     * @return the ordinals matching all equality filters, or {@code null} if there are none
+     */
+    private BitSet matchAttributes(LaptopSearchRequestDto criteria) {
+        List<BitSet> matches = new ArrayList<>(3);
+
+        if (criteria.brand() != null) {
+            matches.add(brands.get(normalize(criteria.brand())));
+        }
+        if (criteria.processor() != null) {
+            matches.add(processors.get(normalize(criteria.processor())));
+        }
+        if (criteria.ram() != null) {
+            matches.add(rams.get(criteria.ram()));
+        }
+
+        if (matches.isEmpty()) {
+            return null;
+        }
+        if (matches.contains(null)) {
+            return new BitSet();
+        }
+
+        matches.sort(Comparator.comparingInt(BitSet::cardinality));
+        BitSet result = (BitSet) matches.get(0).clone();
+        for (int i = 1; i < matches.size() && !result.isEmpty(); i++) {
+            result.and(matches.get(i));
+        }
+
+        return result;
+    }
+
+    /**
+     * Reads a page from a range of the sorted ordinals, skipping ordinals that don't match the filters.
+     *
+     * @param sorted     the ordinals sorted by the requested property
+     * @param from       the first position of the range, inclusive
+     * @param to         the last position of the range, exclusive
+     * @param candidates the ordinals matching the equality filters, or {@code null} if all match
+     * @param minPrice   the minimum price in minor units
+     * @param maxPrice   the maximum price in minor units
+     * @param descending whether to read the range from its end
+     * @param pageable   the page to return
+     * @return the IDs of the laptops on the page
+     */
+    private List<UUID> scanSorted(int[] sorted, int from, int to, BitSet candidates, long minPrice,
+                                  long maxPrice, boolean descending, Pageable pageable) {
+        List<UUID> result = new ArrayList<>(pageable.getPageSize());
+        long skipped = 0;
+
+        for (int i = 0; i < to - from && result.size() < pageable.getPageSize(); i++) {
+            int ordinal = sorted[descending ? to - 1 - i : from + i];
+            if (candidates != null && !candidates.get(ordinal)) {
+                continue;
+            }
+            if (prices[ordinal] < minPrice || prices[ordinal] > maxPrice) {
+                continue;
+            }
+            if (skipped++ < pageable.getOffset()) {
+                continue;
+            }
+
+            result.add(laptopIds[ordinal]);
+        }
+
+        return result;
+    }
+
+    /**
+     * Sorts a small set of matching ordinals directly and returns the requested page of them.
+     *
+     * @param candidates the ordinals matching the equality filters
+     * @param minPrice   the minimum price in minor units
+     * @param maxPrice   the maximum price in minor units
+     * @param keys       the values to sort by, indexed by ordinal
+     * @param descending whether to sort in descending order
+     * @param pageable   the page to return
+     * @return the IDs of the laptops on the page
+     */
+    private List<UUID> sortCandidates(BitSet candidates, long minPrice, long maxPrice, long[] keys,
+                                      boolean descending, Pageable pageable) {
+        List<Integer> matches = new ArrayList<>(candidates.cardinality());
+        for (int ordinal = candidates.nextSetBit(0); ordinal >= 0; ordinal = candidates.nextSetBit(ordinal + 1)) {
+            if (prices[ordinal] >= minPrice && prices[ordinal] <= maxPrice) {
+                matches.add(ordinal);
+            }
+        }
+
+        Comparator<Integer> comparator = byKey(keys);
+        matches.sort(descending ? comparator.reversed() : comparator);
+
+        return matches.stream()
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .map(ordinal -> laptopIds[ordinal])
+                .toList();
+    }
+
+    /**
+     * Merges newly added ordinals into a sorted order.
+     * Ties are broken by ordinal, so sorting a subset of ordinals yields the same order as the merged one.
+     *
+     * @param sorted the ordinals sorted by key
+     * @param added  the new ordinals, all greater than the sorted ones
+     * @param keys   the values to sort by, indexed by ordinal
+     * @return the merged sorted ordinals
+     */
+    private int[] merge(int[] sorted, int[] added, long[] keys) {
+        if (added.length == 0) {
+            return sorted;
+        }
+
+        int[] addedSorted = Arrays.stream(added)
+                .boxed()
+                .sorted(byKey(keys))
+                .mapToInt(Integer::intValue)
+                .toArray();
+
+        int[] merged = new int[sorted.length + addedSorted.length];
+        int i = 0;
+        int j = 0;
+        for (int k = 0; k < merged.length; k++) {
+            if (j == addedSorted.length
+                    || (i < sorted.length && keys[sorted[i]] <= keys[addedSorted[j]])) {
+                merged[k] = sorted[i++];
+            } else {
+                merged[k] = addedSorted[j++];
+            }
+        }
+
+        return merged;
+    }
+
+    /**
+     * Finds the first position in the price order whose price is not less than the given one.
+     *
+     * @param sorted the ordinals sorted by price
+     * @param price  the price in minor units
+     * @return the position, or the length of the order if all prices are less
+     */
+    private int lowerBound(int[] sorted, long price) {
+        int low = 0;
+        int high = sorted.length;
+
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (prices[sorted[mid]] < price) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        return low;
+    }
+
+    private Sort.Order getOrder(Sort sort) {
+        List<Sort.Order> orders = sort.toList();
+        if (orders.isEmpty()) {
+            return DEFAULT_ORDER;
+        }
+
+        Sort.Order order = orders.get(0);
+        if (orders.size() > 1
+                || !(SORT_BY_PRICE.equals(order.getProperty()) || SORT_BY_CREATED_AT.equals(order.getProperty()))) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Search can only be sorted by one of "
+                    + SORT_BY_PRICE + ", " + SORT_BY_CREATED_AT + ", but was: " + sort);
+        }
+
+        return order;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > laptopIds.length) {
+            int newCapacity = Math.max(capacity, laptopIds.length * 2);
+            laptopIds = Arrays.copyOf(laptopIds, newCapacity);
+            prices = Arrays.copyOf(prices, newCapacity);
+            createdAts = Arrays.copyOf(createdAts, newCapacity);
+        }
+    }
+
+    private Comparator<Integer> byKey(long[] keys) {
+        return Comparator.<Integer>comparingLong(ordinal -> keys[ordinal]).thenComparingInt(ordinal -> ordinal);
+    }
+
+    private long toMinorUnits(BigDecimal price, RoundingMode roundingMode) {
+        return price.setScale(PRICE_SCALE, roundingMode).unscaledValue().longValueExact();
+    }
+
+    private long toEpochNanos(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L + dateTime.getNano();
+    }
+
+    private String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -1,12 +1,29 @@
 package teamvoy.application.service;
 
+import java.util.Iterator;
 import java.util.List;
+import java.util.function.Consumer;
 import org.springframework.data.domain.Pageable;
 import teamvoy.application.dto.laptop.request.LaptopRequestDto;
+import teamvoy.application.dto.laptop.request.LaptopSearchRequestDto;
+import teamvoy.application.dto.laptop.response.LaptopCursorPageDto;
+import teamvoy.application.dto.laptop.response.LaptopImportProgressDto;
 import teamvoy.application.dto.laptop.response.LaptopResponseDto;
 
 public interface LaptopService {
     LaptopResponseDto createLaptop(LaptopRequestDto requestDto);
 
+    long importLaptops(Iterator<LaptopRequestDto> requestDtos, Consumer<LaptopImportProgressDto> progressListener);
+
     List<LaptopResponseDto> getAll(Pageable pageable);
+
+    LaptopCursorPageDto getAll(String after, int limit);
+
+    List<LaptopResponseDto> search(LaptopSearchRequestDto criteria, Pageable pageable);
+
+    void buildSearchIndex();
+
+    void catchUpSearchIndex();
+
+    void exportLaptops(Consumer<LaptopResponseDto> sink);
 }
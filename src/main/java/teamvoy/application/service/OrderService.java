@@ -1,13 +1,37 @@
 package teamvoy.application.service;
 
+import java.util.List;
 import java.util.UUID;
+import org.springframework.data.domain.Pageable;
 import teamvoy.application.dto.order.request.OrderRequestDto;
+import teamvoy.application.dto.order.request.OrderSubmission;
 import teamvoy.application.dto.order.response.OrderResponseDto;
+import teamvoy.application.dto.order.response.OrderSubmissionResponseDto;
+import teamvoy.application.dto.order.response.OrderSummaryResponseDto;
+import teamvoy.application.entity.enums.PaymentOutcome;
 
 public interface OrderService {
     OrderResponseDto placeOrder(OrderRequestDto requestDto);
 
+    OrderResponseDto placeOrder(OrderRequestDto requestDto, String idempotencyKey);
+
+    OrderSubmissionResponseDto submitOrder(OrderRequestDto requestDto);
+
+    OrderSubmissionResponseDto getSubmission(UUID orderId);
+
+    List<OrderSubmissionResponseDto> placeOrderBatch(List<OrderSubmission> submissions);
+
+    OrderResponseDto getOrder(UUID orderId);
+
+    List<OrderSummaryResponseDto> getUserOrders(UUID userId, Pageable pageable);
+
+    void scheduleExpiryOfPendingOrders();
+
+    void expireDueOrders();
+
     void deleteNotPaidOrders();
 
-    void markOrderAsPaid(UUID orderId);
+    void purgeIdempotencyKeys();
+
+    PaymentOutcome markOrderAsPaid(UUID orderId);
 }
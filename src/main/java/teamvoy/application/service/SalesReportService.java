@@ -0,0 +1,13 @@
+package teamvoy.application.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import teamvoy.application.dto.order.event.OrderEventSales;
+import teamvoy.application.dto.report.response.SalesBucketDto;
+import teamvoy.application.entity.enums.SalesGranularity;
+
+public interface SalesReportService {
+    void recordOrderEvents(List<OrderEventSales> events);
+
+    List<SalesBucketDto> getSalesReport(LocalDateTime from, LocalDateTime to, SalesGranularity granularity);
+}
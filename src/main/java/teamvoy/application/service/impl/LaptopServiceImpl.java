@@ -1,38 +1,345 @@
 package teamvoy.application.service.impl;
 
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.BeanUtils;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+import teamvoy.application.cache.LaptopCatalogCache;
+import teamvoy.application.config.LaptopImportProperties;
+import teamvoy.application.config.LaptopSearchProperties;
+import teamvoy.application.dto.laptop.request.LaptopCursor;
 import teamvoy.application.dto.laptop.request.LaptopRequestDto;
+import teamvoy.application.dto.laptop.request.LaptopSearchRequestDto;
+import teamvoy.application.dto.laptop.response.LaptopCursorPageDto;
+import teamvoy.application.dto.laptop.response.LaptopImportProgressDto;
 import teamvoy.application.dto.laptop.response.LaptopResponseDto;
 import teamvoy.application.entity.Laptop;
+import teamvoy.application.exception.LaptopImportException;
 import teamvoy.application.mapper.LaptopMapper;
 import teamvoy.application.repo.LaptopRepository;
+import teamvoy.application.search.LaptopSearchIndex;
 import teamvoy.application.service.LaptopService;
 
 @Service
 @RequiredArgsConstructor
 public class LaptopServiceImpl implements LaptopService {
+    private static final int MAX_CURSOR_PAGE_SIZE = 1000;
+    private static final int SEARCH_INDEX_CHUNK_SIZE = 10_000;
+
     private final LaptopRepository laptopRepository;
     private final LaptopMapper laptopMapper;
+    private final LaptopCatalogCache laptopCatalogCache;
+    private final LaptopSearchIndex laptopSearchIndex;
+    private final LaptopImportProperties laptopImportProperties;
+    private final LaptopSearchProperties laptopSearchProperties;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final EntityManager entityManager;
+
+    private volatile boolean searchIndexBuilt;
 
     @Override
     public LaptopResponseDto createLaptop(LaptopRequestDto requestDto) {
-        Laptop laptop = new Laptop();
-        BeanUtils.copyProperties(requestDto, laptop);
+        Laptop laptop = laptopMapper.toEntity(requestDto);
         laptop.setCreatedAt(LocalDateTime.now());
 
-        return laptopMapper.toDto(laptopRepository.save(laptop));
+        Laptop savedLaptop = laptopRepository.save(laptop);
+        LaptopResponseDto responseDto = laptopMapper.toDto(savedLaptop);
+        laptopSearchIndex.addAll(List.of(savedLaptop));
+        laptopCatalogCache.invalidatePages();
+
+        return responseDto;
     }
 
+    /**
+     * Imports laptops from a stream of records in bounded chunks.
+     * Every chunk is validated, mapped and inserted in its own transaction through JDBC batching,
+     * so memory usage does not depend on the number of imported records.
+     * Chunks committed before a failure stay imported; the chunk containing the failing record is discarded.
+     *
+     * @param requestDtos      the records to import, consumed lazily
+     * @param progressListener notified after every committed chunk
+     * @return the total number of imported laptops
+     * @throws LaptopImportException if a record cannot be read or is invalid
+     */
     @Override
+    public long importLaptops(Iterator<LaptopRequestDto> requestDtos,
+                              Consumer<LaptopImportProgressDto> progressListener) {
+        int chunkSize = laptopImportProperties.chunkSize();
+        List<Laptop> chunk = new ArrayList<>(chunkSize);
+        int chunkNumber = 0;
+        long imported = 0;
+        LaptopRequestDto requestDto;
+
+        while ((requestDto = nextImportedLaptop(requestDtos, imported + chunk.size(), imported)) != null) {
+            Laptop laptop = laptopMapper.toEntity(requestDto);
+            laptop.setCreatedAt(LocalDateTime.now());
+            chunk.add(laptop);
+
+            if (chunk.size() == chunkSize) {
+                imported += saveImportedChunk(chunk, ++chunkNumber, imported, progressListener);
+            }
+        }
+
+        if (!chunk.isEmpty()) {
+            imported += saveImportedChunk(chunk, ++chunkNumber, imported, progressListener);
+        }
+
+        return imported;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public List<LaptopResponseDto> getAll(Pageable pageable) {
-        return laptopRepository.findAll(pageable)
-                .stream()
-                .map(laptopMapper::toDto)
+        return laptopCatalogCache.getPage(
+                "page:" + pageable.getPageNumber() + ":" + pageable.getPageSize() + ":" + pageable.getSort(),
+                () -> laptopRepository.findAll(pageable).getContent());
+    }
+
+    /**
+     * Returns a page of laptops ordered by creation time, starting right after the given cursor.
+     * Uses a keyset query over the {@code (created_at, laptop_id)} index, so no offset is skipped
+     * and no count query is issued regardless of how deep the page is. Pages are served from the
+     * catalog cache when possible.
+     *
+     * @param after the cursor returned with the previous page, or {@code null} for the first page
+     * @param limit the maximum number of laptops to return, capped at {@value #MAX_CURSOR_PAGE_SIZE}
+     * @return the page of laptops and the cursor of the next page, or {@code null} if this is the last page
+     * @throws ResponseStatusException with status 400 if the limit is not positive or the cursor is malformed
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public LaptopCursorPageDto getAll(String after, int limit) {
+        if (limit < 1) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Limit must be positive, but was: " + limit);
+        }
+
+        int pageSize = Math.min(limit, MAX_CURSOR_PAGE_SIZE);
+        Limit fetchLimit = Limit.of(pageSize + 1);
+
+        List<LaptopResponseDto> laptops = laptopCatalogCache.getPage("after:" + after + ":" + pageSize, () -> {
+            if (after == null) {
+                return laptopRepository.findAllByOrderByCreatedAtAscLaptopIdAsc(fetchLimit);
+            }
+
+            LaptopCursor cursor = LaptopCursor.decode(after);
+            return laptopRepository.findAllAfter(cursor.createdAt(), cursor.laptopId(), fetchLimit);
+        });
+
+        boolean hasNextPage = laptops.size() > pageSize;
+        List<LaptopResponseDto> page = hasNextPage ? laptops.subList(0, pageSize) : laptops;
+
+        String nextCursor = null;
+        if (hasNextPage) {
+            LaptopResponseDto last = page.get(pageSize - 1);
+            nextCursor = new LaptopCursor(last.createdAt(), last.laptopId()).encode();
+        }
+
+        return new LaptopCursorPageDto(page, nextCursor);
+    }
+
+    /**
+     * Returns a page of laptops matching the given filters, resolved through the in-memory search index.
+     * Only the laptops of the requested page are loaded from the database, and pages are served from
+     * the catalog cache when possible.
+     *
+     * @param criteria the filters to apply; {@code null} fields are not filtered on
+     * @param pageable the page to return, sorted by {@value LaptopSearchIndex#SORT_BY_PRICE}
+     *                 or {@value LaptopSearchIndex#SORT_BY_CREATED_AT}
+     * @return the matching laptops of the page in the requested order
+     * @throws ResponseStatusException with status 400 if the sort is not supported by the search index
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<LaptopResponseDto> search(LaptopSearchRequestDto criteria, Pageable pageable) {
+        return laptopCatalogCache.getPage(
+                "search:" + criteria + ":" + pageable.getOffset() + ":" + pageable.getPageSize()
+                        + ":" + pageable.getSort(),
+                () -> findAllByIdInOrder(laptopSearchIndex.search(criteria, pageable)));
+    }
+
+    /**
+     * Loads the whole catalog into the search index once the application has started.
+     * Laptops are streamed and detached like in {@link #exportLaptops}, and added to the index in chunks.
+     */
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void buildSearchIndex() {
+        List<Laptop> chunk = new ArrayList<>(SEARCH_INDEX_CHUNK_SIZE);
+
+        try (Stream<Laptop> laptops = laptopRepository.streamAllByOrderByCreatedAtAscLaptopIdAsc()) {
+            laptops.forEach(laptop -> {
+                chunk.add(laptop);
+                entityManager.detach(laptop);
+
+                if (chunk.size() == SEARCH_INDEX_CHUNK_SIZE) {
+                    laptopSearchIndex.addAll(chunk);
+                    chunk.clear();
+                }
+            });
+        }
+
+        laptopSearchIndex.addAll(chunk);
+        searchIndexBuilt = true;
+    }
+
+    /**
+     * Adds laptops created since the last indexed one to the search index, including those created by
+     * other instances. Laptops are read with a keyset query from the latest indexed creation time minus
+     * the configured overlap, so rows whose transaction committed after later ones were indexed are not
+     * missed; laptops that are already indexed are skipped. Cached search results are dropped if anything
+     * was added. Does nothing until the index has been built at startup.
+     */
+    @Override
+    @Scheduled(fixedDelayString = "${catalog.search.catch-up-interval:10s}")
+    @Transactional(readOnly = true)
+    public void catchUpSearchIndex() {
+        if (!searchIndexBuilt) {
+            return;
+        }
+
+        LaptopCursor cursor = laptopSearchIndex.getLatestCreatedAt()
+                .map(createdAt -> new LaptopCursor(createdAt.minus(laptopSearchProperties.catchUpOverlap()),
+                        new UUID(0, 0)))
+                .orElse(null);
+        int added = 0;
+        List<Laptop> laptops;
+
+        do {
+            laptops = cursor == null
+                    ? laptopRepository.findAllByOrderByCreatedAtAscLaptopIdAsc(Limit.of(SEARCH_INDEX_CHUNK_SIZE))
+                    : laptopRepository.findAllAfter(cursor.createdAt(), cursor.laptopId(),
+                            Limit.of(SEARCH_INDEX_CHUNK_SIZE));
+            laptops.forEach(entityManager::detach);
+            added += laptopSearchIndex.addAll(laptops);
+
+            if (!laptops.isEmpty()) {
+                Laptop last = laptops.get(laptops.size() - 1);
+                cursor = new LaptopCursor(last.getCreatedAt(), last.getLaptopId());
+            }
+        } while (laptops.size() == SEARCH_INDEX_CHUNK_SIZE);
+
+        if (added > 0) {
+            laptopCatalogCache.invalidatePages();
+        }
+    }
+
+    /**
+     * Streams the whole catalog ordered by creation time to the given sink.
+     * Laptops are read through a forward-only cursor with a JDBC fetch size and detached right after
+     * being mapped, so heap usage stays flat regardless of the catalog size.
+     *
+     * @param sink receives every laptop of the catalog
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void exportLaptops(Consumer<LaptopResponseDto> sink) {
+        try (Stream<Laptop> laptops = laptopRepository.streamAllByOrderByCreatedAtAscLaptopIdAsc()) {
+            laptops.forEach(laptop -> {
+                sink.accept(laptopMapper.toDto(laptop));
+                entityManager.detach(laptop);
+            });
+        }
+    }
+
+    /**
+     * Loads laptops by their IDs, preserving the order of the IDs.
+     *
+     * @param laptopIds the IDs of the laptops to load
+     * @return the laptops that still exist, in the order of their IDs
+     */
+    private List<Laptop> findAllByIdInOrder(List<UUID> laptopIds) {
+        Map<UUID, Laptop> laptops = laptopRepository.findAllById(laptopIds).stream()
+                .collect(Collectors.toMap(Laptop::getLaptopId, Function.identity()));
+
+        return laptopIds.stream()
+                .map(laptops::get)
+                .filter(Objects::nonNull)
                 .toList();
     }
+
+    /**
+     * Reads and validates the next imported record.
+     *
+     * @param requestDtos the records to import
+     * @param position    the zero-based index of the record being read
+     * @param imported    the number of laptops committed so far
+     * @return the next valid record, or {@code null} when the stream is exhausted
+     * @throws LaptopImportException if the record cannot be read or is invalid
+     */
+    private LaptopRequestDto nextImportedLaptop(Iterator<LaptopRequestDto> requestDtos, long position, long imported) {
+        try {
+            if (!requestDtos.hasNext()) {
+                return null;
+            }
+            LaptopRequestDto requestDto = requestDtos.next();
+            validateImportedLaptop(requestDto);
+            return requestDto;
+        } catch (RuntimeException e) {
+            throw new LaptopImportException(position, imported,
+                    "Invalid laptop at position " + position + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Inserts one import chunk in its own transaction and reports it.
+     *
+     * @param chunk            the mapped laptops, cleared once committed
+     * @param chunkNumber      the one-based number of the chunk
+     * @param imported         the number of laptops committed before this chunk
+     * @param progressListener notified after the chunk is committed
+     * @return the number of laptops in the chunk
+     */
+    private int saveImportedChunk(List<Laptop> chunk, int chunkNumber, long imported,
+                                  Consumer<LaptopImportProgressDto> progressListener) {
+        transactionTemplate.executeWithoutResult(status -> laptopRepository.saveAll(chunk));
+        laptopSearchIndex.addAll(chunk);
+        laptopCatalogCache.invalidatePages();
+
+        int saved = chunk.size();
+        progressListener.accept(new LaptopImportProgressDto(chunkNumber, saved, imported + saved));
+        chunk.clear();
+
+        return saved;
+    }
+
+    /**
+     * Validates an imported record against the constraints of {@link LaptopRequestDto}.
+     *
+     * @param requestDto the record to validate
+     * @throws IllegalArgumentException if the record violates any constraint
+     */
+    private void validateImportedLaptop(LaptopRequestDto requestDto) {
+        Set<ConstraintViolation<LaptopRequestDto>> violations = validator.validate(requestDto);
+
+        if (!violations.isEmpty()) {
+            String details = violations.stream()
+                    .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                    .collect(Collectors.joining(", "));
+            throw new IllegalArgumentException(details);
+        }
+    }
 }
@@ -0,0 +1,89 @@
+package teamvoy.application.service.impl;
+
+import java.math.BigDecimal;
+
+/**
+ * Prices the items of a single order on scaled long minor units.
+ * Item totals and the order total are computed as unscaled longs at the scale of the prices, so the
+ * results are identical, scale included, to multiplying prices with {@link BigDecimal#multiply} and summing
+ * them with {@link BigDecimal#add} starting from {@link BigDecimal#ZERO}, while allocating a single
+ * {@code BigDecimal} per item and none per summation step. All arithmetic is overflow-checked; once a value
+ * doesn't fit into a long, the remaining items are priced with {@code BigDecimal} arithmetic.
+ */
+final class OrderPricing {
+    private static final long[] POWERS_OF_TEN = {
+            1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L,
+            1_000_000_000L, 10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L, 10_000_000_000_000L,
+            100_000_000_000_000L, 1_000_000_000_000_000L, 10_000_000_000_000_000L,
+            100_000_000_000_000_000L, 1_000_000_000_000_000_000L
+    };
+
+    private long unscaledTotal;
+    private int totalScale;
+    private BigDecimal overflowTotal;
+
+    /**
+     * Adds an item to the order.
+     *
+     * @param price    the unit price of the item
+     * @param quantity the ordered quantity
+     * @return the total price of the item
+     */
+    BigDecimal addItem(BigDecimal price, int quantity) {
+        if (overflowTotal == null) {
+            try {
+                long unscaledItemTotal = Math.multiplyExact(price.scaleByPowerOfTen(price.scale()).longValueExact(),
+                        quantity);
+                addToTotal(unscaledItemTotal, price.scale());
+
+                return BigDecimal.valueOf(unscaledItemTotal, price.scale());
+            } catch (ArithmeticException e) {
+                overflowTotal = BigDecimal.valueOf(unscaledTotal, totalScale);
+            }
+        }
+
+        BigDecimal itemTotal = price.multiply(BigDecimal.valueOf(quantity));
+        overflowTotal = overflowTotal.add(itemTotal);
+
+        return itemTotal;
+    }
+
+    /**
+     * Returns the total amount of all items added so far.
+     *
+     * @return the total amount of the order
+     */
+    BigDecimal totalAmount() {
+        return overflowTotal != null ? overflowTotal : BigDecimal.valueOf(unscaledTotal, totalScale);
+    }
+
+    /**
+     * Adds an item total to the running total, rescaling whichever of the two has the smaller scale.
+     * The running total is only updated if no step overflows.
+     *
+     * @param unscaledItemTotal the unscaled total price of the item
+     * @param scale             the scale of the item total
+     * @throws ArithmeticException if the total doesn't fit into a long
+     */
+    private void addToTotal(long unscaledItemTotal, int scale) {
+        long total = unscaledTotal;
+        int newScale = totalScale;
+
+        if (scale > newScale) {
+            total = Math.multiplyExact(total, powerOfTen(scale - newScale));
+            newScale = scale;
+        }
+        long itemTotal = Math.multiplyExact(unscaledItemTotal, powerOfTen(newScale - scale));
+
+        unscaledTotal = Math.addExact(total, itemTotal);
+        totalScale = newScale;
+    }
+
+    private static long powerOfTen(int exponent) {
+        if (exponent >= POWERS_OF_TEN.length) {
+            throw new ArithmeticException("10^" + exponent + " doesn't fit into a long");
+        }
+
+        return POWERS_OF_TEN[exponent];
+    }
+}
@@ -1,126 +1,493 @@
 package teamvoy.application.service.impl;
 
-import jakarta.persistence.EntityNotFoundException;
-import java.math.BigDecimal;
+import jakarta.persistence.EntityManager;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.UUID;
-import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+import teamvoy.application.cache.OrderIdempotencyCache;
+import teamvoy.application.config.OrderExpiryProperties;
+import teamvoy.application.config.OrderIdempotencyProperties;
+import teamvoy.application.datasource.PrimaryReads;
+import teamvoy.application.datasource.RecentWrites;
 import teamvoy.application.dto.order.request.OrderItemDto;
 import teamvoy.application.dto.order.request.OrderRequestDto;
+import teamvoy.application.dto.order.request.OrderSubmission;
 import teamvoy.application.dto.order.response.OrderResponseDto;
+import teamvoy.application.dto.order.response.OrderSubmissionResponseDto;
+import teamvoy.application.dto.order.response.OrderSummaryResponseDto;
 import teamvoy.application.entity.Laptop;
 import teamvoy.application.entity.Order;
+import teamvoy.application.entity.OrderIdempotencyKey;
 import teamvoy.application.entity.OrderItem;
+import teamvoy.application.entity.enums.OrderEventType;
 import teamvoy.application.entity.enums.OrderStatus;
+import teamvoy.application.entity.enums.PaymentOutcome;
+import teamvoy.application.entity.enums.SubmissionStatus;
+import teamvoy.application.entity.generator.TimeOrderedUuids;
+import teamvoy.application.event.StockChangedEvent;
 import teamvoy.application.mapper.OrderMapper;
+import teamvoy.application.metrics.OrderMetrics;
+import teamvoy.application.metrics.OrderOperation;
+import teamvoy.application.outbox.OrderEventOutbox;
+import teamvoy.application.repo.ExpiredOrderRepository;
 import teamvoy.application.repo.LaptopRepository;
+import teamvoy.application.repo.OrderIdempotencyKeyRepository;
 import teamvoy.application.repo.OrderRepository;
+import teamvoy.application.repo.projection.LaptopQuantity;
+import teamvoy.application.repo.projection.OrderItemRow;
+import teamvoy.application.retry.OptimisticLockRetry;
+import teamvoy.application.scheduling.OrderExpiryQueue;
+import teamvoy.application.scheduling.OrderSubmissionQueue;
+import teamvoy.application.scheduling.SchedulerLeases;
 import teamvoy.application.service.OrderService;
 
 @Service
 @RequiredArgsConstructor
 public class OrderServiceImpl implements OrderService {
+    private static final String SWEEP_LEASE = "orders.expiry.sweep";
+    private static final String IDEMPOTENCY_PURGE_LEASE = "orders.idempotency.purge";
+
     private final LaptopRepository laptopRepository;
     private final OrderRepository orderRepository;
     private final OrderMapper orderMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OrderIdempotencyCache orderIdempotencyCache;
+    private final OrderIdempotencyKeyRepository orderIdempotencyKeyRepository;
+    private final OrderIdempotencyProperties orderIdempotencyProperties;
+    private final OrderExpiryQueue orderExpiryQueue;
+    private final OrderExpiryProperties orderExpiryProperties;
+    private final OrderSubmissionQueue orderSubmissionQueue;
+    private final OrderMetrics orderMetrics;
+    private final RecentWrites recentWrites;
+    private final OptimisticLockRetry optimisticLockRetry;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final SchedulerLeases schedulerLeases;
+    private final OrderEventOutbox orderEventOutbox;
+    private final ExpiredOrderRepository expiredOrderRepository;
 
     /**
      * Places an order for laptops, validating stock quantities and updating the stock.
      * Builds an order and saves it to the database.
+     * The stock is deducted with atomic conditional updates, so concurrent orders for the same
+     * laptop can never drive its quantity below zero.
      *
      * @param requestDto the details of the order, including user ID and ordered items
      * @return a response DTO representing the placed order
      * @throws IllegalArgumentException if the requested quantity exceeds the available stock
      */
     @Override
-    @Transactional
     public OrderResponseDto placeOrder(OrderRequestDto requestDto) {
-        List<UUID> laptopsIds = requestDto.orderItemsDtoSet().stream()
-                .map(OrderItemDto::laptopId)
-                .toList();
-        List<Laptop> laptops = laptopRepository.findAllById(laptopsIds);
+        return placeOrder(requestDto, null);
+    }
 
-        Map<UUID, Laptop> laptopMap = laptops.stream()
-                .collect(Collectors.toMap(Laptop::getLaptopId, Function.identity()));
+    /**
+     * Places an order at most once per idempotency key.
+     * A replayed request gets the originally placed order without touching the laptops' stock,
+     * and concurrent duplicates wait for the first execution instead of racing it. Keys are
+     * remembered in a bounded in-memory cache and stored with a hash of the request in their own table,
+     * which outlives the orders, so duplicates are also detected after eviction, restarts, expiry of the
+     * order or on another instance. Stored keys and the orders they replay are read from the primary, so a
+     * lagging replica can't make a duplicate place the order again. Reusing a key with a different request
+     * is rejected, and replaying the key of an order that has since expired answers {@code 410 GONE}.
+     *
+     * @param requestDto     the details of the order, including user ID and ordered items
+     * @param idempotencyKey the client-provided key identifying the request, or {@code null} to always place
+     * @return a response DTO representing the placed order
+     * @throws IllegalArgumentException if the requested quantity exceeds the available stock
+     * @throws ResponseStatusException  with status 422 if the key was already used with a different request,
+     *                                  or with status 410 if the order placed for the key has expired
+     */
+    @Override
+    public OrderResponseDto placeOrder(OrderRequestDto requestDto, String idempotencyKey) {
+        return orderMetrics.record(OrderOperation.PLACE, () -> {
+            if (idempotencyKey == null) {
+                return transactionTemplate.execute(status -> createOrder(requestDto, null, null));
+            }
 
-        Map<UUID, Integer> requestedQuantities = requestDto.orderItemsDtoSet().stream()
-                .collect(Collectors.toMap(OrderItemDto::laptopId, OrderItemDto::quantity));
+            String requestHash = OrderIdempotencyCache.requestHash(requestDto);
+            return orderIdempotencyCache.execute(idempotencyKey, requestHash, () -> findIdempotencyKey(idempotencyKey)
+                    .map(storedKey -> replayOrder(storedKey, requestHash))
+                    .orElseGet(() -> placeNewOrder(requestDto, idempotencyKey, requestHash)));
+        });
+    }
 
-        validateLaptopsStockQuantity(requestedQuantities, laptops);
+    /**
+     * Accepts an order for asynchronous placement.
+     * The order ID is assigned upfront and returned immediately; the order is placed later by the
+     * submission worker together with other queued orders.
+     *
+     * @param requestDto the details of the order, including user ID and ordered items
+     * @return the queued submission with the ID the order will be placed under
+     * @throws ResponseStatusException with status 429 if the submission queue is full,
+     *                                 or with status 503 if the application is shutting down
+     */
+    @Override
+    public OrderSubmissionResponseDto submitOrder(OrderRequestDto requestDto) {
+        UUID orderId = TimeOrderedUuids.next();
+
+        if (!orderSubmissionQueue.offer(new OrderSubmission(orderId, requestDto))) {
+            if (orderSubmissionQueue.isClosed()) {
+                throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                        "Orders are no longer accepted while the application shuts down");
+            }
+            throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS,
+                    "Too many orders are waiting to be placed, retry later");
+        }
 
-        Set<OrderItem> orderItems = buildOrderItems(requestDto.orderItemsDtoSet(), laptopMap);
+        return new OrderSubmissionResponseDto(orderId, SubmissionStatus.QUEUED, null);
+    }
 
-        Order order = Order.builder()
-                .userId(requestDto.userId())
-                .orderItems(orderItems)
-                .totalAmount(calculateTotalAmount(orderItems))
-                .timestamp(LocalDateTime.now())
-                .orderStatus(OrderStatus.PENDING)
-                .build();
+    /**
+     * Retrieves the status of an asynchronously placed order.
+     * Once the status of a placed order has been evicted, it is resolved from the orders table.
+     *
+     * @param orderId the ID returned when the order was submitted
+     * @return the current status of the submission
+     * @throws ResponseStatusException with {@code 404 NOT_FOUND} if the submission is unknown
+     */
+    @Override
+    public OrderSubmissionResponseDto getSubmission(UUID orderId) {
+        return orderSubmissionQueue.getStatus(orderId)
+                .or(() -> orderRepository.existsById(orderId)
+                        ? Optional.of(new OrderSubmissionResponseDto(orderId, SubmissionStatus.PLACED, null))
+                        : Optional.empty())
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
+                        "Can't find order submission with ID: " + orderId));
+    }
 
-        updateLaptopsStockQuantity(requestedQuantities, laptops, (initial, requested) -> initial - requested);
+    /**
+     * Places a batch of submitted orders in a single transaction.
+     * The stock of all laptops in the batch is read once without locking, submissions are checked
+     * against it in the order they were queued, and the quantities of all accepted orders are deducted
+     * from each laptop with a single versioned update. If any laptop's stock changed concurrently,
+     * the whole batch is retried with a jittered backoff, up to a bounded number of attempts.
+     * Submissions that don't fit the remaining stock are rejected without affecting the others.
+     *
+     * @param submissions the submitted orders, in the order they were queued
+     * @return the outcome of every submission, available once the transaction has committed
+     * @throws OptimisticLockingFailureException if the stock kept changing concurrently on every attempt
+     */
+    @Override
+    public List<OrderSubmissionResponseDto> placeOrderBatch(List<OrderSubmission> submissions) {
+        List<OrderSubmissionResponseDto> results = orderMetrics.record(OrderOperation.PLACE_BATCH,
+                () -> optimisticLockRetry.execute(
+                        () -> transactionTemplate.execute(status -> createOrders(submissions))));
 
-        return orderMapper.toDto(orderRepository.save(order));
+        results.forEach(result -> {
+            if (result.status() == SubmissionStatus.PLACED) {
+                orderMetrics.orderPlaced();
+            } else {
+                orderMetrics.orderRejected();
+            }
+        });
+
+        return results;
     }
 
     /**
-     * Deletes unpaid orders that have been pending for more than 10 minutes.
+     * Retrieves an order with all its items.
+     * The order, its items and the ordered laptops are fetched with a single query, from a replica
+     * unless the order was placed or paid recently.
+     *
+     * @param orderId the unique identifier of the order
+     * @return a response DTO representing the order
+     * @throws ResponseStatusException with {@code 404 NOT_FOUND} if no order with the specified ID is found
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public OrderResponseDto getOrder(UUID orderId) {
+        List<OrderItemRow> orderItemRows =
+                recentWrites.read(orderId, () -> orderRepository.findOrderItemRowsByOrderId(orderId));
+
+        if (orderItemRows.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Can't find order with ID: " + orderId);
+        }
+
+        return orderMapper.toDto(orderItemRows);
+    }
+
+    /**
+     * Retrieves a page of the user's order history, most recent first.
+     * Only order summaries are projected, straight from the {@code (user_id, timestamp)} index range,
+     * and no count query is issued. The history is read from a replica unless the user placed an order recently.
+     *
+     * @param userId   the unique identifier of the user
+     * @param pageable the page number and size; any requested sort is ignored
+     * @return the summaries of the user's orders on the requested page
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<OrderSummaryResponseDto> getUserOrders(UUID userId, Pageable pageable) {
+        Pageable page = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+
+        return recentWrites.read(userId, () -> orderRepository.findSummariesByUserId(userId, page)).stream()
+                .map(orderMapper::toSummaryDto)
+                .toList();
+    }
+
+    /**
+     * Queues the expiry of all pending orders once the application has started.
+     * The pending orders are read in deadline order through the {@code (order_status, timestamp)} index,
+     * up to the capacity of the expiry queue.
+     */
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void scheduleExpiryOfPendingOrders() {
+        orderRepository.findTimestampsByOrderStatus(OrderStatus.PENDING,
+                        Limit.of(orderExpiryProperties.queueCapacity()))
+                .forEach(order -> orderExpiryQueue.schedule(
+                        order.orderId(), order.timestamp().plus(orderExpiryProperties.pendingTimeout())));
+    }
+
+    /**
+     * Deletes queued orders whose expiry deadline has passed and that are still unpaid.
      * Restores the stock quantities of laptops from the deleted orders.
-     * Scheduled to run every minute.
+     * Due orders are taken from the expiry queue in chunks, each processed in its own transaction;
+     * orders paid in the meantime are skipped under a row lock. Orders of a failed chunk are left
+     * to the reconciliation sweep.
+     * Scheduled to run every second, so orders are released within seconds of expiring.
      */
     @Override
-    @Scheduled(cron = "0 * * * * *")
-    @Transactional
-    public void deleteNotPaidOrders() {
-        LocalDateTime currentTime = LocalDateTime.now();
-        List<Order> unpaidOrders = orderRepository.findAllByOrderStatusAndTimestampBefore(OrderStatus.PENDING, currentTime.minusMinutes(10));
+    @Scheduled(fixedDelayString = "${orders.expiry.poll-interval:1s}")
+    public void expireDueOrders() {
+        List<UUID> dueOrderIds = orderExpiryQueue.pollExpired(orderExpiryProperties.chunkSize());
 
-        if (unpaidOrders.isEmpty()) {
-            return;
+        while (!dueOrderIds.isEmpty()) {
+            List<UUID> chunk = dueOrderIds;
+            Integer deletedOrders = orderMetrics.record(OrderOperation.EXPIRE, () -> transactionTemplate.execute(
+                    status -> releaseOrders(orderRepository
+                            .findIdsForUpdateByOrderIdInAndOrderStatus(chunk, OrderStatus.PENDING))));
+            orderMetrics.ordersExpiredByQueue(deletedOrders == null ? 0 : deletedOrders);
+
+            dueOrderIds = orderExpiryQueue.pollExpired(orderExpiryProperties.chunkSize());
         }
+    }
 
-        unpaidOrders.forEach(order -> {
-            Map<UUID, Integer> orderedQuantities = order.getOrderItems().stream()
-                    .collect(Collectors.toMap(
-                            orderItem -> orderItem.getLaptop().getLaptopId(),
-                            OrderItem::getQuantity));
+    /**
+     * Deletes unpaid orders that have been pending for longer than the configured timeout.
+     * Restores the stock quantities of laptops from the deleted orders.
+     * Orders are processed in chunks, each in its own transaction and with a fixed number of
+     * statements: the expired order IDs are locked, their ordered quantities are summed per laptop,
+     * the stock of all affected laptops is restored with one aggregated update, then order items
+     * and orders are deleted in bulk.
+     * The sweep stops when no expired orders are left or the time budget per run is spent.
+     * Expired orders are normally released by {@link #expireDueOrders()}; this indexed sweep only
+     * reconciles orders the expiry queue doesn't know about, such as those placed by other instances
+     * or left over after a failure. Tombstones of orders expired longer ago than the configured retention
+     * are purged afterwards. Scheduled to run every ten minutes; when several instances share the
+     * database, only the one holding the sweep lease runs it.
+     */
+    @Override
+    @Scheduled(cron = "${orders.expiry.reconcile-cron:0 */10 * * * *}")
+    public void deleteNotPaidOrders() {
+        schedulerLeases.runExclusively(SWEEP_LEASE, () -> orderMetrics.record(OrderOperation.SWEEP, () -> {
+            LocalDateTime expirationTime = LocalDateTime.now().minus(orderExpiryProperties.pendingTimeout());
+            long deadline = System.nanoTime() + orderExpiryProperties.timeBudget().toNanos();
 
-            List<UUID> laptopIds = orderedQuantities.keySet().stream().toList();
-            List<Laptop> laptops = laptopRepository.findAllById(laptopIds);
+            Integer deletedOrders;
+            do {
+                deletedOrders = transactionTemplate.execute(status -> deleteNotPaidOrdersChunk(expirationTime));
+                orderMetrics.ordersExpiredBySweep(deletedOrders == null ? 0 : deletedOrders);
+            } while (deletedOrders != null
+                    && deletedOrders == orderExpiryProperties.chunkSize()
+                    && System.nanoTime() < deadline);
 
-            updateLaptopsStockQuantity(orderedQuantities, laptops, Integer::sum);
-        });
+            LocalDateTime tombstonesExpiredBefore =
+                    LocalDateTime.now().minus(orderExpiryProperties.tombstoneRetention());
+            transactionTemplate.executeWithoutResult(
+                    status -> expiredOrderRepository.deleteExpiredBefore(tombstonesExpiredBefore));
+        }));
+    }
+
+    /**
+     * Deletes idempotency keys older than the configured retention.
+     * Replays of a purged key place a new order. Scheduled to run hourly; when several instances share
+     * the database, only the one holding the purge lease runs it.
+     */
+    @Override
+    @Scheduled(cron = "${orders.idempotency.purge-cron:0 30 * * * *}")
+    public void purgeIdempotencyKeys() {
+        LocalDateTime createdBefore = LocalDateTime.now().minus(orderIdempotencyProperties.retention());
 
-        orderRepository.deleteAll(unpaidOrders);
+        schedulerLeases.runExclusively(IDEMPOTENCY_PURGE_LEASE, () -> transactionTemplate.executeWithoutResult(
+                status -> orderIdempotencyKeyRepository.deleteCreatedBefore(createdBefore)));
     }
 
     /**
      * Marks the specified order as paid.
+     * The transition is a single conditional update that only matches a pending order placed within
+     * the payment window, so a payment can never revive an order the expiry is releasing.
+     * The order status is read only when the update matches no row, to tell the caller why; an order that
+     * is gone is reported as expired if its tombstone is still kept.
+     * A paid order is read back with its items once, for the {@code PAID} event recorded in the outbox.
      *
      * @param orderId the unique identifier of the order to mark as paid
-     * @throws EntityNotFoundException if no order with the specified ID is found
-     * @throws IllegalStateException   if the order is already marked as paid
+     * @return {@link PaymentOutcome#PAID} if the order was marked as paid, otherwise the reason it wasn't
      */
     @Override
-    public void markOrderAsPaid(UUID orderId) {
-        Order order = orderRepository.findById(orderId).orElseThrow(
-                () -> new EntityNotFoundException("Can't find order with ID: " + orderId));
+    @Transactional
+    public PaymentOutcome markOrderAsPaid(UUID orderId) {
+        return orderMetrics.record(OrderOperation.PAY, () -> {
+            LocalDateTime expirationTime = LocalDateTime.now().minus(orderExpiryProperties.pendingTimeout());
+
+            if (orderRepository.updateOrderStatus(
+                    orderId, OrderStatus.PENDING, OrderStatus.PAID, expirationTime) == 0) {
+                return orderRepository.findOrderStatusById(orderId)
+                        .map(status -> status == OrderStatus.PAID
+                                ? PaymentOutcome.ALREADY_PAID
+                                : PaymentOutcome.EXPIRED)
+                        .orElseGet(() -> expiredOrderRepository.existsById(orderId)
+                                ? PaymentOutcome.EXPIRED
+                                : PaymentOutcome.NOT_FOUND);
+            }
+
+            orderEventOutbox.ordersChanged(OrderEventType.PAID,
+                    orderRepository.findOrderItemRowsByOrderId(orderId));
+            recentWrites.record(orderId);
+            orderMetrics.orderPaid();
+            return PaymentOutcome.PAID;
+        });
+    }
 
-        if (order.getOrderStatus().equals(OrderStatus.PAID)) {
-            throw new IllegalStateException("Order with ID: " + orderId + " is already marked as paid");
+    /**
+     * Builds the order, deducts the stock and saves the order to the database.
+     * A {@code PLACED} event is recorded in the outbox. Must be called within a transaction.
+     *
+     * @param requestDto     the details of the order, including user ID and ordered items
+     * @param idempotencyKey the key identifying the request, or {@code null}
+     * @param requestHash    the fingerprint of the request, or {@code null} without a key
+     * @return a response DTO representing the placed order
+     * @throws IllegalArgumentException if the requested quantity exceeds the available stock
+     */
+    private OrderResponseDto createOrder(OrderRequestDto requestDto, String idempotencyKey, String requestHash) {
+        SortedMap<UUID, Integer> requestedQuantities = new TreeMap<>();
+        for (OrderItemDto orderItemDto : requestDto.orderItemsDtoSet()) {
+            if (requestedQuantities.putIfAbsent(orderItemDto.laptopId(), orderItemDto.quantity()) != null) {
+                throw new IllegalStateException("Duplicate laptop ID: " + orderItemDto.laptopId());
+            }
+        }
+
+        List<Laptop> laptops = laptopRepository.findAllById(new ArrayList<>(requestedQuantities.keySet()));
+        Map<UUID, Laptop> laptopMap = new HashMap<>((int) (laptops.size() / 0.75f) + 1);
+        for (Laptop laptop : laptops) {
+            laptopMap.put(laptop.getLaptopId(), laptop);
         }
 
-        order.setOrderStatus(OrderStatus.PAID);
-        orderRepository.save(order);
+        validateLaptopsStockQuantity(requestedQuantities, laptops);
+
+        OrderPricing orderPricing = new OrderPricing();
+        Set<OrderItem> orderItems = buildOrderItems(requestDto.orderItemsDtoSet(), laptopMap, orderPricing);
+
+        Order order = Order.builder()
+                .userId(requestDto.userId())
+                .orderItems(orderItems)
+                .totalAmount(orderPricing.totalAmount())
+                .timestamp(LocalDateTime.now())
+                .orderStatus(OrderStatus.PENDING)
+                .build();
+
+        reserveLaptopsStockQuantity(requestedQuantities);
+
+        Order savedOrder = orderRepository.save(order);
+        if (idempotencyKey != null) {
+            orderIdempotencyKeyRepository.insert(
+                    idempotencyKey, requestHash, savedOrder.getOrderId(), savedOrder.getTimestamp());
+        }
+        orderEventOutbox.orderPlaced(savedOrder);
+        orderExpiryQueue.scheduleAfterCommit(savedOrder.getOrderId(),
+                savedOrder.getTimestamp().plus(orderExpiryProperties.pendingTimeout()));
+        recentWrites.record(savedOrder.getOrderId());
+        recentWrites.record(savedOrder.getUserId());
+        orderMetrics.orderPlaced();
+
+        return orderMapper.toDto(savedOrder);
+    }
+
+    /**
+     * Places a new order with an idempotency key in its own transaction.
+     * If another instance stored the same key in the meantime, its primary key rejects this one,
+     * the transaction rolls back and the already placed order is returned instead.
+     *
+     * @param requestDto     the details of the order, including user ID and ordered items
+     * @param idempotencyKey the key identifying the request
+     * @param requestHash    the fingerprint of the request
+     * @return a response DTO representing the placed order
+     * @throws ResponseStatusException with status 422 if the key was stored for a different request,
+     *                                 or with status 410 if the order placed for the key has expired
+     */
+    private OrderResponseDto placeNewOrder(OrderRequestDto requestDto, String idempotencyKey, String requestHash) {
+        try {
+            return transactionTemplate.execute(status -> createOrder(requestDto, idempotencyKey, requestHash));
+        } catch (DataIntegrityViolationException e) {
+            return findIdempotencyKey(idempotencyKey)
+                    .map(storedKey -> replayOrder(storedKey, requestHash))
+                    .orElseThrow(() -> e);
+        }
+    }
+
+    /**
+     * Looks up a stored idempotency key on the primary.
+     * A replica may not have the key yet, even though another instance has already placed the order for it.
+     *
+     * @param idempotencyKey the key identifying the request
+     * @return the stored key, or an empty optional if the key hasn't been used yet
+     */
+    private Optional<OrderIdempotencyKey> findIdempotencyKey(String idempotencyKey) {
+        return PrimaryReads.force(() -> orderIdempotencyKeyRepository.findById(idempotencyKey));
+    }
+
+    /**
+     * Returns the order placed for a stored idempotency key, read from the primary.
+     * Keys migrated from before request hashes were stored have no hash and match any request.
+     * Orders are only deleted once they expire, so a key whose order is gone belongs to an expired order.
+     *
+     * @param storedKey   the stored idempotency key
+     * @param requestHash the fingerprint of the replayed request
+     * @return a response DTO representing the originally placed order
+     * @throws ResponseStatusException with status 422 if the key was stored for a different request,
+     *                                 or with status 410 if the order placed for the key has expired
+     */
+    private OrderResponseDto replayOrder(OrderIdempotencyKey storedKey, String requestHash) {
+        if (storedKey.getRequestHash() != null && !storedKey.getRequestHash().equals(requestHash)) {
+            throw OrderIdempotencyCache.keyReused(storedKey.getIdempotencyKey());
+        }
+
+        List<OrderItemRow> orderItemRows = PrimaryReads.force(
+                () -> orderRepository.findOrderItemRowsByOrderId(storedKey.getOrderId()));
+        if (orderItemRows.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.GONE, "Order " + storedKey.getOrderId()
+                    + " placed for idempotency key " + storedKey.getIdempotencyKey() + " has expired");
+        }
+
+        return orderMapper.toDto(orderItemRows);
     }
 
     /**
@@ -135,64 +502,208 @@ public class OrderServiceImpl implements OrderService {
             Integer requestedQuantity = requestedQuantities.get(laptop.getLaptopId());
 
             if (requestedQuantity > laptop.getQuantity()) {
-                throw new IllegalArgumentException("Requested quantity for laptop with ID: "
-                        + laptop.getLaptopId() + " is greater than available in stock");
+                throw insufficientStock(laptop.getLaptopId());
+            }
+        });
+    }
+
+    /**
+     * Creates the orders of a batch of submissions and deducts their stock.
+     * A {@code PLACED} event is recorded in the outbox for every created order.
+     * Must be called within a transaction, which fails on commit if the stock of any of the laptops
+     * was changed after it was read.
+     *
+     * @param submissions the submitted orders, in the order they were queued
+     * @return the outcome of every submission
+     */
+    private List<OrderSubmissionResponseDto> createOrders(List<OrderSubmission> submissions) {
+        Set<UUID> laptopIds = submissions.stream()
+                .flatMap(submission -> submission.requestDto().orderItemsDtoSet().stream())
+                .map(OrderItemDto::laptopId)
+                .collect(Collectors.toCollection(TreeSet::new));
+        Map<UUID, Laptop> laptopMap = laptopRepository.findAllById(laptopIds).stream()
+                .collect(Collectors.toMap(Laptop::getLaptopId, Function.identity()));
+
+        Map<UUID, Integer> remainingQuantities = laptopMap.values().stream()
+                .collect(Collectors.toMap(Laptop::getLaptopId, Laptop::getQuantity));
+        Map<UUID, Integer> quantityChanges = new TreeMap<>();
+        List<OrderSubmissionResponseDto> results = new ArrayList<>(submissions.size());
+        LocalDateTime timestamp = LocalDateTime.now();
+
+        for (OrderSubmission submission : submissions) {
+            Optional<String> rejection = findRejectionReason(submission.requestDto(), remainingQuantities);
+            if (rejection.isPresent()) {
+                results.add(new OrderSubmissionResponseDto(
+                        submission.orderId(), SubmissionStatus.REJECTED, rejection.get()));
+                continue;
             }
+
+            submission.requestDto().orderItemsDtoSet().forEach(item -> {
+                remainingQuantities.merge(item.laptopId(), -item.quantity(), Integer::sum);
+                quantityChanges.merge(item.laptopId(), -item.quantity(), Integer::sum);
+            });
+
+            OrderPricing orderPricing = new OrderPricing();
+            Set<OrderItem> orderItems = buildOrderItems(
+                    submission.requestDto().orderItemsDtoSet(), laptopMap, orderPricing);
+            Order order = Order.builder()
+                    .orderId(submission.orderId())
+                    .userId(submission.requestDto().userId())
+                    .orderItems(orderItems)
+                    .totalAmount(orderPricing.totalAmount())
+                    .timestamp(timestamp)
+                    .orderStatus(OrderStatus.PENDING)
+                    .build();
+            entityManager.persist(order);
+            orderEventOutbox.orderPlaced(order);
+            orderExpiryQueue.scheduleAfterCommit(submission.orderId(),
+                    timestamp.plus(orderExpiryProperties.pendingTimeout()));
+            recentWrites.record(submission.orderId());
+            recentWrites.record(submission.requestDto().userId());
+            results.add(new OrderSubmissionResponseDto(submission.orderId(), SubmissionStatus.PLACED, null));
+        }
+
+        quantityChanges.forEach((laptopId, change) -> {
+            Laptop laptop = laptopMap.get(laptopId);
+            laptop.setQuantity(laptop.getQuantity() + change);
         });
+        eventPublisher.publishEvent(new StockChangedEvent(quantityChanges));
+
+        return results;
+    }
+
+    /**
+     * Checks a submitted order against the stock left for the current batch.
+     * Items are checked against the stock one at a time, so an order listing the same laptop in several items
+     * is rejected, as in {@link #createOrder}.
+     *
+     * @param requestDto          the details of the submitted order
+     * @param remainingQuantities a map of laptop IDs to stock not yet reserved by the batch
+     * @return the reason to reject the order, or an empty optional if it can be placed
+     */
+    private Optional<String> findRejectionReason(OrderRequestDto requestDto, Map<UUID, Integer> remainingQuantities) {
+        Set<UUID> laptopIds = new HashSet<>((int) (requestDto.orderItemsDtoSet().size() / 0.75f) + 1);
+
+        for (OrderItemDto item : requestDto.orderItemsDtoSet()) {
+            Integer remainingQuantity = remainingQuantities.get(item.laptopId());
+
+            if (!laptopIds.add(item.laptopId())) {
+                return Optional.of("Duplicate laptop ID: " + item.laptopId());
+            }
+            if (remainingQuantity == null) {
+                return Optional.of("Can't find laptop with ID: " + item.laptopId());
+            }
+            if (item.quantity() > remainingQuantity) {
+                return Optional.of("Requested quantity for laptop with ID: "
+                        + item.laptopId() + " is greater than available in stock");
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    /**
+     * Creates the exception rejecting an order for insufficient stock and counts the rejection.
+     *
+     * @param laptopId the ID of the laptop with insufficient stock
+     * @return the exception to throw
+     */
+    private IllegalArgumentException insufficientStock(UUID laptopId) {
+        orderMetrics.orderRejected();
+
+        return new IllegalArgumentException("Requested quantity for laptop with ID: "
+                + laptopId + " is greater than available in stock");
     }
 
     /**
      * Builds a set of order items from a DTO set and a map of laptops.
+     * Item totals are computed by the given pricing, which also accumulates the total amount of the order.
      *
      * @param orderItemDtoSet the DTOs representing the ordered items
      * @param laptopMap a map of laptop IDs to Laptop entities
+     * @param orderPricing the pricing of the order the items belong to
      * @return a set of constructed {@code OrderItem} entities
      */
-    private Set<OrderItem> buildOrderItems(Set<OrderItemDto> orderItemDtoSet, Map<UUID, Laptop> laptopMap) {
-        return orderItemDtoSet.stream()
-                .map(orderItemDto -> {
-                    Laptop laptop = laptopMap.get(orderItemDto.laptopId());
+    Set<OrderItem> buildOrderItems(Set<OrderItemDto> orderItemDtoSet, Map<UUID, Laptop> laptopMap,
+                                   OrderPricing orderPricing) {
+        Set<OrderItem> orderItems = new HashSet<>((int) (orderItemDtoSet.size() / 0.75f) + 1);
 
-                    OrderItem orderItem = new OrderItem();
-                    orderItem.setLaptop(laptop);
-                    orderItem.setQuantity(orderItemDto.quantity());
-                    orderItem.setTotalPrice(laptop.getPrice()
-                            .multiply(BigDecimal.valueOf(orderItem.getQuantity())));
+        for (OrderItemDto orderItemDto : orderItemDtoSet) {
+            Laptop laptop = laptopMap.get(orderItemDto.laptopId());
 
-                    return orderItem;
-                })
-                .collect(Collectors.toSet());
+            OrderItem orderItem = new OrderItem();
+            orderItem.setLaptop(laptop);
+            orderItem.setQuantity(orderItemDto.quantity());
+            orderItem.setTotalPrice(orderPricing.addItem(laptop.getPrice(), orderItemDto.quantity()));
+            orderItems.add(orderItem);
+        }
+
+        return orderItems;
     }
 
     /**
-     * Calculates the total amount of an order based on the prices and quantities of its items.
+     * Deducts the requested quantities from the laptops' stock.
+     * Every laptop is updated with a single conditional statement that only succeeds while enough
+     * stock is left, so no read-modify-write race can oversell it. Laptops are processed in ID order
+     * to acquire row locks in the same order across transactions and avoid deadlocks.
+     * A {@link StockChangedEvent} is published for the catalog cache and live stock subscribers.
      *
-     * @param orderItems the set of order items
-     * @return the total amount as a {@code BigDecimal}
+     * @param requestedQuantities a map of laptop IDs to quantities to deduct
+     * @throws IllegalArgumentException if any requested quantity exceeds the available stock
      */
-    private BigDecimal calculateTotalAmount(Set<OrderItem> orderItems) {
-        return orderItems.stream()
-                .map(OrderItem::getTotalPrice)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    private void reserveLaptopsStockQuantity(SortedMap<UUID, Integer> requestedQuantities) {
+        Map<UUID, Integer> quantityChanges = new TreeMap<>();
+
+        requestedQuantities.forEach((laptopId, requestedQuantity) -> {
+            if (laptopRepository.decreaseQuantity(laptopId, requestedQuantity) == 0) {
+                throw insufficientStock(laptopId);
+            }
+            quantityChanges.put(laptopId, -requestedQuantity);
+        });
+
+        eventPublisher.publishEvent(new StockChangedEvent(quantityChanges));
     }
 
     /**
-     * Updates the stock quantities of laptops using a provided operation (e.g., addition or subtraction).
+     * Deletes a single chunk of expired unpaid orders and restores the laptops' stock.
+     * Must be called within a transaction, as the selected orders stay locked until it commits.
      *
-     * @param requestedQuantities a map of laptop IDs to quantities to update
-     * @param laptops the list of laptops to update
-     * @param operation a {@code BiFunction} defining the operation for updating stock (e.g., add or subtract)
+     * @param expirationTime orders placed before this time are considered expired
+     * @return the number of deleted orders
      */
-    private void updateLaptopsStockQuantity(Map<UUID, Integer> requestedQuantities,
-                                            List<Laptop> laptops,
-                                            BiFunction<Integer, Integer, Integer> operation) {
-        laptops.forEach(laptop -> {
-            Integer initialQuantity = laptop.getQuantity();
-            Integer requestedQuantity = requestedQuantities.get(laptop.getLaptopId());
+    private int deleteNotPaidOrdersChunk(LocalDateTime expirationTime) {
+        List<UUID> orderIds = orderRepository.findIdsForUpdateByOrderStatusAndTimestampBefore(
+                OrderStatus.PENDING, expirationTime, Limit.of(orderExpiryProperties.chunkSize()));
 
-            laptop.setQuantity(operation.apply(initialQuantity, requestedQuantity));
-        });
+        return releaseOrders(orderIds);
+    }
+
+    /**
+     * Deletes the given orders and restores the laptops' stock with a fixed number of statements.
+     * The orders are read with their items before deletion, for the {@code EXPIRED} events recorded in the outbox,
+     * and leave a tombstone in {@code expired_orders}, so a late payment is told the order expired.
+     * Must be called within a transaction that holds row locks on the orders.
+     *
+     * @param orderIds the IDs of the locked orders to delete
+     * @return the number of deleted orders
+     */
+    private int releaseOrders(List<UUID> orderIds) {
+        if (orderIds.isEmpty()) {
+            return 0;
+        }
+
+        Map<UUID, Integer> restoredQuantities = orderRepository.sumQuantitiesByOrderIds(orderIds).stream()
+                .collect(Collectors.toMap(LaptopQuantity::laptopId, quantity -> quantity.quantity().intValue()));
+
+        orderEventOutbox.ordersChanged(OrderEventType.EXPIRED,
+                orderRepository.findOrderItemRowsByOrderIdIn(orderIds));
+        laptopRepository.increaseQuantityByOrderItems(orderIds);
+        expiredOrderRepository.insertAll(orderIds, LocalDateTime.now());
+        orderRepository.deleteOrderItemsByOrderIds(orderIds);
+        orderRepository.deleteAllByIdInBatch(orderIds);
+
+        eventPublisher.publishEvent(new StockChangedEvent(restoredQuantities));
 
-        laptopRepository.saveAll(laptops);
+        return orderIds.size();
     }
 }
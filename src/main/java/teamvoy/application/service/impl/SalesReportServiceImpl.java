@@ -0,0 +1,153 @@
+package teamvoy.application.service.impl;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+import teamvoy.application.dto.order.event.OrderEventSales;
+import teamvoy.application.dto.order.event.OrderEventItem;
+import teamvoy.application.dto.report.response.SalesBucketDto;
+import teamvoy.application.entity.SalesRollup;
+import teamvoy.application.entity.SalesRollupId;
+import teamvoy.application.entity.enums.SalesGranularity;
+import teamvoy.application.repo.SalesRollupRepository;
+import teamvoy.application.service.SalesReportService;
+
+/**
+ * Maintains hourly sales rollups per laptop and order event type, and reports sales from them.
+ * Reports never touch the {@code orders} and {@code order_items} tables, so their cost depends on the
+ * number of rollups in the requested range, not on the number of orders.
+ */
+@Service
+@RequiredArgsConstructor
+public class SalesReportServiceImpl implements SalesReportService {
+    private static final Comparator<SalesRollupId> ROLLUP_ORDER = Comparator
+            .comparing(SalesRollupId::bucketStart)
+            .thenComparing(SalesRollupId::laptopId)
+            .thenComparing(SalesRollupId::eventType);
+    private static final Comparator<SalesBucketKey> BUCKET_ORDER = Comparator
+            .comparing(SalesBucketKey::bucketStart)
+            .thenComparing(SalesBucketKey::laptopId);
+
+    private final SalesRollupRepository salesRollupRepository;
+
+    /**
+     * Adds order events to the rollups of the hours they occurred in.
+     * The events are first summed per rollup, so a batch costs one upsert per rollup it touches however
+     * many orders it holds. Rollups are upserted in key order, so concurrent batches lock them in the same
+     * order and can't deadlock. Must be called within the transaction that consumes the events.
+     *
+     * @param events the events to add
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordOrderEvents(List<OrderEventSales> events) {
+        Map<SalesRollupId, RollupDelta> deltas = new TreeMap<>(ROLLUP_ORDER);
+        for (OrderEventSales event : events) {
+            LocalDateTime bucketStart = event.occurredAt().truncatedTo(ChronoUnit.HOURS);
+
+            for (OrderEventItem item : event.items()) {
+                deltas.computeIfAbsent(new SalesRollupId(bucketStart, item.laptopId(), event.type()),
+                                id -> new RollupDelta())
+                        .add(item.quantity(), item.totalPrice());
+            }
+        }
+
+        deltas.forEach((id, delta) -> salesRollupRepository.add(id.bucketStart(), id.laptopId(), id.eventType(),
+                delta.units, delta.amount));
+    }
+
+    /**
+     * Reports units placed, sold and expired and the revenue of each laptop, per time bucket.
+     * Hourly rollups are read from a replica and summed into buckets of the requested granularity.
+     * Buckets are never split: {@code from} is rounded down to the start of its bucket, and a bucket
+     * starting before {@code to} is reported whole.
+     *
+     * @param from        the start of the reported period
+     * @param to          the end of the reported period, exclusive
+     * @param granularity the length of the reported buckets
+     * @return the buckets with sales, ordered by bucket start and laptop ID
+     * @throws ResponseStatusException with status 400 if {@code from} is not before {@code to}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<SalesBucketDto> getSalesReport(LocalDateTime from, LocalDateTime to, SalesGranularity granularity) {
+        if (!from.isBefore(to)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "'from' must be before 'to'");
+        }
+
+        Map<SalesBucketKey, SalesBucket> buckets = new TreeMap<>(BUCKET_ORDER);
+        for (SalesRollup rollup : salesRollupRepository.findAllByBucketStartInRange(
+                bucketStart(from, granularity), to)) {
+            buckets.computeIfAbsent(
+                            new SalesBucketKey(bucketStart(rollup.getBucketStart(), granularity), rollup.getLaptopId()),
+                            key -> new SalesBucket())
+                    .add(rollup);
+        }
+
+        return buckets.entrySet().stream()
+                .map(bucket -> bucket.getValue().toDto(bucket.getKey()))
+                .toList();
+    }
+
+    /**
+     * Returns the start of the bucket a point in time falls into.
+     *
+     * @param time        the point in time
+     * @param granularity the length of the buckets
+     * @return the start of the bucket
+     */
+    private static LocalDateTime bucketStart(LocalDateTime time, SalesGranularity granularity) {
+        return switch (granularity) {
+            case HOUR -> time.truncatedTo(ChronoUnit.HOURS);
+            case DAY -> time.truncatedTo(ChronoUnit.DAYS);
+            case MONTH -> time.truncatedTo(ChronoUnit.DAYS).withDayOfMonth(1);
+        };
+    }
+
+    private static final class RollupDelta {
+        private long units;
+        private BigDecimal amount = BigDecimal.ZERO;
+
+        private void add(int quantity, BigDecimal totalPrice) {
+            units += quantity;
+            amount = amount.add(totalPrice);
+        }
+    }
+
+    private record SalesBucketKey(LocalDateTime bucketStart, UUID laptopId) {
+    }
+
+    private static final class SalesBucket {
+        private long unitsPlaced;
+        private long unitsSold;
+        private BigDecimal revenue = BigDecimal.ZERO;
+        private long unitsExpired;
+
+        private void add(SalesRollup rollup) {
+            switch (rollup.getEventType()) {
+                case PLACED -> unitsPlaced += rollup.getUnits();
+                case PAID -> {
+                    unitsSold += rollup.getUnits();
+                    revenue = revenue.add(rollup.getAmount());
+                }
+                case EXPIRED -> unitsExpired += rollup.getUnits();
+            }
+        }
+
+        private SalesBucketDto toDto(SalesBucketKey key) {
+            return new SalesBucketDto(key.bucketStart(), key.laptopId(), unitsPlaced, unitsSold, revenue,
+                    unitsExpired);
+        }
+    }
+}
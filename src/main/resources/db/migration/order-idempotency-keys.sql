@@ -0,0 +1,26 @@
+-- Moves idempotency keys from orders.idempotency_key to the order_idempotency_keys table.
+-- Keys are now stored in their own table with a hash of the request, so they outlive expired orders, and
+-- `ddl-auto=update` neither copies the old column nor drops it. Run once with the application stopped,
+-- after uuid-to-binary16.sql:
+--   mariadb -u root -p teamvoy_db < src/main/resources/db/migration/order-idempotency-keys.sql
+--
+-- Migrated keys have no request hash and are replayed for any request body. The table may already exist if the
+-- application was started with the new mapping.
+
+SET @order_id_type = (SELECT COLUMN_TYPE FROM information_schema.COLUMNS
+                      WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'orders' AND COLUMN_NAME = 'order_id');
+
+SET @create_table = CONCAT('CREATE TABLE IF NOT EXISTS order_idempotency_keys ('
+    'idempotency_key VARCHAR(255) NOT NULL PRIMARY KEY, '
+    'request_hash VARCHAR(64) NULL, '
+    'order_id ', @order_id_type, ' NOT NULL, '
+    'created_at DATETIME(6) NOT NULL, '
+    'INDEX idx_order_idempotency_keys_created_at (created_at))');
+PREPARE statement FROM @create_table;
+EXECUTE statement;
+DEALLOCATE PREPARE statement;
+
+INSERT IGNORE INTO order_idempotency_keys (idempotency_key, request_hash, order_id, created_at)
+SELECT idempotency_key, NULL, order_id, timestamp FROM orders WHERE idempotency_key IS NOT NULL;
+
+ALTER TABLE orders DROP COLUMN idempotency_key;
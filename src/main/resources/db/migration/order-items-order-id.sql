@@ -0,0 +1,27 @@
+-- Moves the order of each order item from the orders_order_items join table to order_items.order_id.
+-- Schemas created before order items were mapped through an order_id column still keep the link in the
+-- join table, and `ddl-auto=update` neither copies it nor drops the table, so their orders would lose their
+-- items. Run once with the application stopped, before uuid-to-binary16.sql:
+--   mariadb -u root -p teamvoy_db < src/main/resources/db/migration/order-items-order-id.sql
+--
+-- The column gets the type of orders.order_id, and may already exist if the application was started with the
+-- new mapping. The foreign key constraint is added by `ddl-auto=update` on the next start.
+
+SET @order_id_type = (SELECT COLUMN_TYPE FROM information_schema.COLUMNS
+                      WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'orders' AND COLUMN_NAME = 'order_id');
+
+SET @add_column = CONCAT('ALTER TABLE order_items ADD COLUMN IF NOT EXISTS order_id ', @order_id_type, ' NULL');
+PREPARE statement FROM @add_column;
+EXECUTE statement;
+DEALLOCATE PREPARE statement;
+
+UPDATE order_items oi
+JOIN orders_order_items ooi ON ooi.order_items_order_item_id = oi.order_item_id
+SET oi.order_id = ooi.order_order_id;
+
+SET @require_column = CONCAT('ALTER TABLE order_items MODIFY order_id ', @order_id_type, ' NOT NULL');
+PREPARE statement FROM @require_column;
+EXECUTE statement;
+DEALLOCATE PREPARE statement;
+
+DROP TABLE orders_order_items;
@@ -0,0 +1,32 @@
+-- Converts the UUID columns of an existing MariaDB schema to BINARY(16).
+-- Hibernate only creates new columns as BINARY(16); `ddl-auto=update` does not change existing ones.
+-- Run once with the application stopped:
+--   mariadb -u root -p teamvoy_db < src/main/resources/db/migration/uuid-to-binary16.sql
+-- Schemas that still link order items through orders_order_items need order-items-order-id.sql first.
+--
+-- Each column is first widened to VARBINARY(36), which keeps the textual form of UUID and CHAR(36)
+-- columns alike, then rewritten to its 16 raw bytes and narrowed to BINARY(16). Existing random IDs keep
+-- their values; only IDs issued afterwards are time-ordered. Foreign key checks are disabled so that
+-- referencing and referenced columns can change type one after the other.
+
+SET FOREIGN_KEY_CHECKS = 0;
+
+ALTER TABLE laptops MODIFY laptop_id VARBINARY(36) NOT NULL;
+ALTER TABLE orders MODIFY order_id VARBINARY(36) NOT NULL, MODIFY user_id VARBINARY(36) NOT NULL;
+ALTER TABLE order_items MODIFY order_item_id VARBINARY(36) NOT NULL, MODIFY order_id VARBINARY(36) NOT NULL,
+    MODIFY laptop_id VARBINARY(36) NOT NULL;
+
+UPDATE laptops SET laptop_id = UNHEX(REPLACE(laptop_id, '-', ''))
+WHERE LENGTH(laptop_id) = 36;
+UPDATE orders SET order_id = UNHEX(REPLACE(order_id, '-', '')), user_id = UNHEX(REPLACE(user_id, '-', ''))
+WHERE LENGTH(order_id) = 36;
+UPDATE order_items SET order_item_id = UNHEX(REPLACE(order_item_id, '-', '')),
+    order_id = UNHEX(REPLACE(order_id, '-', '')), laptop_id = UNHEX(REPLACE(laptop_id, '-', ''))
+WHERE LENGTH(order_item_id) = 36;
+
+ALTER TABLE laptops MODIFY laptop_id BINARY(16) NOT NULL;
+ALTER TABLE orders MODIFY order_id BINARY(16) NOT NULL, MODIFY user_id BINARY(16) NOT NULL;
+ALTER TABLE order_items MODIFY order_item_id BINARY(16) NOT NULL, MODIFY order_id BINARY(16) NOT NULL,
+    MODIFY laptop_id BINARY(16) NOT NULL;
+
+SET FOREIGN_KEY_CHECKS = 1;
@@ -0,0 +1,72 @@
+package teamvoy.application.config;
+
+import io.r2dbc.spi.ConnectionFactory;
+import jakarta.persistence.EntityManagerFactory;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.ReadingConverter;
+import org.springframework.data.convert.WritingConverter;
+import org.springframework.data.r2dbc.convert.R2dbcCustomConversions;
+import org.springframework.data.r2dbc.dialect.DialectResolver;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+
+/**
+ * Lets the R2DBC connection factory coexist with the JDBC data source.
+ * Spring Boot backs off from its data source and JPA transaction manager as soon as an R2DBC
+ * connection factory exists, so both are declared here: blocking services keep using JPA through
+ * the primary transaction manager, reactive services go through the R2DBC one.
+ * UUIDs are converted to the same {@code BINARY(16)} representation Hibernate writes.
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(DataSourceProperties.class)
+public class ReactiveConfig {
+    @Bean
+    @Primary
+    public JpaTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+        return new JpaTransactionManager(entityManagerFactory);
+    }
+
+    @Bean
+    public R2dbcTransactionManager reactiveTransactionManager(ConnectionFactory connectionFactory) {
+        return new R2dbcTransactionManager(connectionFactory);
+    }
+
+    @Bean
+    public R2dbcCustomConversions r2dbcCustomConversions(ConnectionFactory connectionFactory) {
+        return R2dbcCustomConversions.of(DialectResolver.getDialect(connectionFactory),
+                List.of(UuidToBytesConverter.INSTANCE, BytesToUuidConverter.INSTANCE));
+    }
+
+    @WritingConverter
+    private enum UuidToBytesConverter implements Converter<UUID, byte[]> {
+        INSTANCE;
+
+        @Override
+        public byte[] convert(UUID source) {
+            return ByteBuffer.allocate(16)
+                    .putLong(source.getMostSignificantBits())
+                    .putLong(source.getLeastSignificantBits())
+                    .array();
+        }
+    }
+
+    @ReadingConverter
+    private enum BytesToUuidConverter implements Converter<byte[], UUID> {
+        INSTANCE;
+
+        @Override
+        public UUID convert(byte[] source) {
+            ByteBuffer buffer = ByteBuffer.wrap(source);
+
+            return new UUID(buffer.getLong(), buffer.getLong());
+        }
+    }
+}
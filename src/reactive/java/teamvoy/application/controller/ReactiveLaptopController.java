@@ -0,0 +1,81 @@
+package teamvoy.application.controller;
+
+import jakarta.validation.Valid;
+import java.util.List;
+import java.util.concurrent.Callable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import teamvoy.application.dto.laptop.request.LaptopRequestDto;
+import teamvoy.application.dto.laptop.request.LaptopSearchRequestDto;
+import teamvoy.application.dto.laptop.response.LaptopCursorPageDto;
+import teamvoy.application.dto.laptop.response.LaptopImportErrorDto;
+import teamvoy.application.dto.laptop.response.LaptopResponseDto;
+import teamvoy.application.exception.LaptopImportException;
+import teamvoy.application.service.LaptopService;
+import teamvoy.application.service.ReactiveLaptopService;
+
+@RestController
+@RequestMapping("/laptops")
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveLaptopController {
+    private final ReactiveLaptopService reactiveLaptopService;
+    private final LaptopService laptopService;
+
+    @PostMapping
+    public Mono<ResponseEntity<LaptopResponseDto>> createLaptop(@RequestBody @Valid LaptopRequestDto requestDto) {
+        return blocking(() -> laptopService.createLaptop(requestDto)).map(ResponseEntity::ok);
+    }
+
+    @PostMapping(value = "/bulk",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE},
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<Object> importLaptops(@RequestBody Flux<LaptopRequestDto> requestDtos) {
+        return Flux.create(sink -> {
+            try {
+                laptopService.importLaptops(requestDtos.toIterable().iterator(), sink::next);
+            } catch (LaptopImportException e) {
+                sink.next(new LaptopImportErrorDto(e.getRecord(), e.getImported(), e.getReason()));
+            }
+            sink.complete();
+        }).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<LaptopResponseDto> getAll(Pageable pageable) {
+        return reactiveLaptopService.getAll(pageable);
+    }
+
+    @GetMapping("/search")
+    public Mono<ResponseEntity<List<LaptopResponseDto>>> search(LaptopSearchRequestDto criteria,
+                                                                Pageable pageable) {
+        return blocking(() -> laptopService.search(criteria, pageable)).map(ResponseEntity::ok);
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<LaptopResponseDto> exportLaptops() {
+        return reactiveLaptopService.exportLaptops();
+    }
+
+    @GetMapping(params = "limit")
+    public Mono<ResponseEntity<LaptopCursorPageDto>> getAll(@RequestParam(required = false) String after,
+                                                            @RequestParam int limit) {
+        return blocking(() -> laptopService.getAll(after, limit)).map(ResponseEntity::ok);
+    }
+
+    private <T> Mono<T> blocking(Callable<T> call) {
+        return Mono.fromCallable(call).subscribeOn(Schedulers.boundedElastic());
+    }
+}
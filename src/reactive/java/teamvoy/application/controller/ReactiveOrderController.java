@@ -0,0 +1,89 @@
+package teamvoy.application.controller;
+
+import java.net.URI;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import teamvoy.application.dto.order.request.OrderRequestDto;
+import teamvoy.application.dto.order.response.OrderResponseDto;
+import teamvoy.application.dto.order.response.OrderSubmissionResponseDto;
+import teamvoy.application.dto.order.response.OrderSummaryResponseDto;
+import teamvoy.application.entity.enums.PaymentOutcome;
+import teamvoy.application.service.OrderService;
+import teamvoy.application.service.ReactiveOrderService;
+
+@RestController
+@RequestMapping("/orders")
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveOrderController {
+    private final ReactiveOrderService reactiveOrderService;
+    private final OrderService orderService;
+
+    @PostMapping("/place")
+    public Mono<ResponseEntity<OrderResponseDto>> placeOrder(
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @RequestBody OrderRequestDto requestDto) {
+        Mono<OrderResponseDto> order = idempotencyKey == null
+                ? reactiveOrderService.placeOrder(requestDto)
+                : blocking(() -> orderService.placeOrder(requestDto, idempotencyKey));
+
+        return order.map(ResponseEntity::ok);
+    }
+
+    @PostMapping("/submit")
+    public Mono<ResponseEntity<OrderSubmissionResponseDto>> submitOrder(@RequestBody OrderRequestDto requestDto) {
+        return blocking(() -> orderService.submitOrder(requestDto))
+                .map(submission -> ResponseEntity.accepted()
+                        .location(URI.create("/orders/" + submission.orderId() + "/status"))
+                        .body(submission));
+    }
+
+    @GetMapping("/{orderId}/status")
+    public Mono<ResponseEntity<OrderSubmissionResponseDto>> getSubmission(@PathVariable UUID orderId) {
+        return blocking(() -> orderService.getSubmission(orderId)).map(ResponseEntity::ok);
+    }
+
+    @PostMapping("/{orderId}/pay")
+    public Mono<ResponseEntity<PaymentOutcome>> markOrderAsPaid(@PathVariable UUID orderId) {
+        return blocking(() -> orderService.markOrderAsPaid(orderId)).map(outcome -> {
+            HttpStatus status = switch (outcome) {
+                case PAID -> HttpStatus.OK;
+                case NOT_FOUND -> HttpStatus.NOT_FOUND;
+                case ALREADY_PAID -> HttpStatus.CONFLICT;
+                case EXPIRED -> HttpStatus.GONE;
+            };
+            return ResponseEntity.status(status).body(outcome);
+        });
+    }
+
+    @GetMapping("/{orderId}")
+    public Mono<ResponseEntity<OrderResponseDto>> getOrder(@PathVariable UUID orderId) {
+        return reactiveOrderService.getOrder(orderId).map(ResponseEntity::ok);
+    }
+
+    @GetMapping(params = "userId")
+    public Mono<ResponseEntity<List<OrderSummaryResponseDto>>> getUserOrders(@RequestParam UUID userId,
+                                                                             Pageable pageable) {
+        return blocking(() -> orderService.getUserOrders(userId, pageable)).map(ResponseEntity::ok);
+    }
+
+    private <T> Mono<T> blocking(Callable<T> call) {
+        return Mono.fromCallable(call).subscribeOn(Schedulers.boundedElastic());
+    }
+}
@@ -0,0 +1,22 @@
+package teamvoy.application.entity.reactive;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+@Table("laptops")
+public record LaptopRecord(
+        @Id
+        UUID laptopId,
+        String brand,
+        String model,
+        String processor,
+        Integer ram,
+        BigDecimal price,
+        Integer quantity,
+        LocalDateTime createdAt,
+        long version
+) {
+}
@@ -0,0 +1,17 @@
+package teamvoy.application.entity.reactive;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+@Table("order_items")
+public record OrderItemRecord(
+        @Id
+        UUID orderItemId,
+        UUID orderId,
+        UUID laptopId,
+        Integer quantity,
+        BigDecimal totalPrice
+) {
+}
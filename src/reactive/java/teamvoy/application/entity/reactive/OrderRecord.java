@@ -0,0 +1,19 @@
+package teamvoy.application.entity.reactive;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+import teamvoy.application.entity.enums.OrderStatus;
+
+@Table("orders")
+public record OrderRecord(
+        @Id
+        UUID orderId,
+        UUID userId,
+        BigDecimal totalAmount,
+        LocalDateTime timestamp,
+        OrderStatus orderStatus
+) {
+}
@@ -0,0 +1,13 @@
+package teamvoy.application.entity.reactive;
+
+import java.util.UUID;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+@Table("outbox_events")
+public record OutboxEventRecord(
+        @Id
+        UUID eventId,
+        String payload
+) {
+}
@@ -0,0 +1,11 @@
+package teamvoy.application.mapper;
+
+import org.mapstruct.Mapper;
+import teamvoy.application.config.MapperConfig;
+import teamvoy.application.dto.laptop.response.LaptopResponseDto;
+import teamvoy.application.entity.reactive.LaptopRecord;
+
+@Mapper(config = MapperConfig.class)
+public interface ReactiveLaptopMapper {
+    LaptopResponseDto toDto(LaptopRecord laptop);
+}
@@ -0,0 +1,22 @@
+package teamvoy.application.repo;
+
+import java.util.UUID;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.Param;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import teamvoy.application.entity.reactive.LaptopRecord;
+
+public interface ReactiveLaptopRepository extends R2dbcRepository<LaptopRecord, UUID> {
+    Flux<LaptopRecord> findAllBy(Pageable pageable);
+
+    Flux<LaptopRecord> findAllByOrderByCreatedAtAscLaptopIdAsc();
+
+    @Modifying
+    @Query("update laptops set quantity = quantity - :quantity, version = version + 1 "
+            + "where laptop_id = :laptopId and quantity >= :quantity")
+    Mono<Integer> decreaseQuantity(@Param("laptopId") UUID laptopId, @Param("quantity") int quantity);
+}
@@ -0,0 +1,26 @@
+package teamvoy.application.repo;
+
+import java.util.UUID;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.Param;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import teamvoy.application.entity.reactive.OrderRecord;
+import teamvoy.application.repo.projection.OrderItemRow;
+
+public interface ReactiveOrderRepository extends R2dbcRepository<OrderRecord, UUID> {
+    @Modifying
+    @Query("insert into orders (order_id, user_id, total_amount, timestamp, order_status) "
+            + "values (:#{#order.orderId}, :#{#order.userId}, :#{#order.totalAmount}, :#{#order.timestamp}, "
+            + "'PENDING')")
+    Mono<Integer> insertPending(@Param("order") OrderRecord order);
+
+    @Query("select o.order_id, o.user_id, o.total_amount, o.timestamp, o.order_status, "
+            + "l.laptop_id, l.brand, l.model, l.price, oi.quantity, oi.total_price "
+            + "from orders o left join order_items oi on oi.order_id = o.order_id "
+            + "left join laptops l on l.laptop_id = oi.laptop_id "
+            + "where o.order_id = :orderId")
+    Flux<OrderItemRow> findOrderItemRowsByOrderId(@Param("orderId") UUID orderId);
+}
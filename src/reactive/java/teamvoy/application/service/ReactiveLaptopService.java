@@ -0,0 +1,11 @@
+package teamvoy.application.service;
+
+import org.springframework.data.domain.Pageable;
+import reactor.core.publisher.Flux;
+import teamvoy.application.dto.laptop.response.LaptopResponseDto;
+
+public interface ReactiveLaptopService {
+    Flux<LaptopResponseDto> getAll(Pageable pageable);
+
+    Flux<LaptopResponseDto> exportLaptops();
+}
@@ -0,0 +1,12 @@
+package teamvoy.application.service;
+
+import java.util.UUID;
+import reactor.core.publisher.Mono;
+import teamvoy.application.dto.order.request.OrderRequestDto;
+import teamvoy.application.dto.order.response.OrderResponseDto;
+
+public interface ReactiveOrderService {
+    Mono<OrderResponseDto> placeOrder(OrderRequestDto requestDto);
+
+    Mono<OrderResponseDto> getOrder(UUID orderId);
+}
@@ -0,0 +1,42 @@
+package teamvoy.application.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import teamvoy.application.dto.laptop.response.LaptopResponseDto;
+import teamvoy.application.mapper.ReactiveLaptopMapper;
+import teamvoy.application.repo.ReactiveLaptopRepository;
+import teamvoy.application.service.ReactiveLaptopService;
+
+@Service
+@RequiredArgsConstructor
+public class ReactiveLaptopServiceImpl implements ReactiveLaptopService {
+    private final ReactiveLaptopRepository laptopRepository;
+    private final ReactiveLaptopMapper laptopMapper;
+
+    /**
+     * Streams a page of laptops as the rows arrive from the database.
+     * Unlike {@link LaptopServiceImpl#getAll(Pageable)} the page is not cached, so every request
+     * reflects the current stock.
+     *
+     * @param pageable the page number, size and sort of the page
+     * @return the laptops of the page
+     */
+    @Override
+    public Flux<LaptopResponseDto> getAll(Pageable pageable) {
+        return laptopRepository.findAllBy(pageable).map(laptopMapper::toDto);
+    }
+
+    /**
+     * Streams the whole catalog ordered by creation time.
+     * Rows are requested from the driver as the subscriber consumes them, so a slow client holds
+     * back the query instead of buffering the catalog in memory.
+     *
+     * @return all laptops, oldest first
+     */
+    @Override
+    public Flux<LaptopResponseDto> exportLaptops() {
+        return laptopRepository.findAllByOrderByCreatedAtAscLaptopIdAsc().map(laptopMapper::toDto);
+    }
+}
@@ -0,0 +1,166 @@
+package teamvoy.application.service.impl;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import teamvoy.application.config.OrderExpiryProperties;
+import teamvoy.application.dto.order.event.OrderEvent;
+import teamvoy.application.dto.order.event.OrderEventItem;
+import teamvoy.application.dto.order.request.OrderItemDto;
+import teamvoy.application.dto.order.request.OrderRequestDto;
+import teamvoy.application.dto.order.response.OrderItemResponseDto;
+import teamvoy.application.dto.order.response.OrderResponseDto;
+import teamvoy.application.entity.enums.OrderEventType;
+import teamvoy.application.entity.enums.OrderStatus;
+import teamvoy.application.entity.generator.TimeOrderedUuids;
+import teamvoy.application.entity.reactive.LaptopRecord;
+import teamvoy.application.entity.reactive.OrderItemRecord;
+import teamvoy.application.entity.reactive.OrderRecord;
+import teamvoy.application.entity.reactive.OutboxEventRecord;
+import teamvoy.application.event.StockChangedEvent;
+import teamvoy.application.mapper.OrderMapper;
+import teamvoy.application.metrics.OrderMetrics;
+import teamvoy.application.outbox.OrderEventOutbox;
+import teamvoy.application.repo.ReactiveLaptopRepository;
+import teamvoy.application.repo.ReactiveOrderRepository;
+import teamvoy.application.scheduling.OrderExpiryQueue;
+import teamvoy.application.service.ReactiveOrderService;
+
+@Service
+@RequiredArgsConstructor
+public class ReactiveOrderServiceImpl implements ReactiveOrderService {
+    private final ReactiveLaptopRepository laptopRepository;
+    private final ReactiveOrderRepository orderRepository;
+    private final R2dbcEntityTemplate entityTemplate;
+    private final TransactionalOperator transactionalOperator;
+    private final OrderMapper orderMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OrderExpiryQueue orderExpiryQueue;
+    private final OrderExpiryProperties orderExpiryProperties;
+    private final OrderMetrics orderMetrics;
+    private final OrderEventOutbox orderEventOutbox;
+
+    /**
+     * Places an order for laptops without blocking a thread on the database.
+     * The stock is deducted with the same conditional updates as {@link OrderServiceImpl#placeOrder},
+     * in laptop ID order, and the order is only inserted once every laptop had enough stock left.
+     * Expiry, stock events and metrics are handled after the transaction commits.
+     *
+     * @param requestDto the details of the order, including user ID and ordered items
+     * @return the placed order, or an {@link IllegalArgumentException} if the requested quantity
+     *         exceeds the available stock
+     */
+    @Override
+    public Mono<OrderResponseDto> placeOrder(OrderRequestDto requestDto) {
+        SortedMap<UUID, Integer> requestedQuantities = new TreeMap<>();
+        for (OrderItemDto orderItemDto : requestDto.orderItemsDtoSet()) {
+            if (requestedQuantities.putIfAbsent(orderItemDto.laptopId(), orderItemDto.quantity()) != null) {
+                return Mono.error(new IllegalStateException("Duplicate laptop ID: " + orderItemDto.laptopId()));
+            }
+        }
+
+        return Flux.fromIterable(requestedQuantities.entrySet())
+                .concatMap(item -> laptopRepository.decreaseQuantity(item.getKey(), item.getValue())
+                        .filter(updatedRows -> updatedRows == 1)
+                        .switchIfEmpty(Mono.error(() -> insufficientStock(item.getKey()))))
+                .thenMany(laptopRepository.findAllById(requestedQuantities.keySet()))
+                .collectMap(LaptopRecord::laptopId)
+                .flatMap(laptops -> insertOrder(requestDto, laptops))
+                .as(transactionalOperator::transactional)
+                .doOnSuccess(order -> onOrderPlaced(order, requestedQuantities));
+    }
+
+    /**
+     * Retrieves an order with all its items in a single query.
+     *
+     * @param orderId the unique identifier of the order
+     * @return the order, or a {@code 404 NOT_FOUND} {@link ResponseStatusException} if no order with the specified ID exists
+     */
+    @Override
+    public Mono<OrderResponseDto> getOrder(UUID orderId) {
+        return orderRepository.findOrderItemRowsByOrderId(orderId)
+                .collectList()
+                .filter(orderItemRows -> !orderItemRows.isEmpty())
+                .map(orderMapper::toDto)
+                .switchIfEmpty(Mono.error(() ->
+                        new ResponseStatusException(HttpStatus.NOT_FOUND, "Can't find order with ID: " + orderId)));
+    }
+
+    /**
+     * Prices the order and inserts it together with its items and its {@link OrderEventType#PLACED} event.
+     * The timestamp is truncated to the microsecond precision of the column, so the returned order
+     * equals the one read back later. Must be subscribed to within a transaction.
+     *
+     * @param requestDto the details of the order, including user ID and ordered items
+     * @param laptops    a map of laptop IDs to the ordered laptops
+     * @return the inserted order
+     */
+    private Mono<OrderResponseDto> insertOrder(OrderRequestDto requestDto, Map<UUID, LaptopRecord> laptops) {
+        UUID orderId = TimeOrderedUuids.next();
+        OrderPricing orderPricing = new OrderPricing();
+        List<OrderItemRecord> orderItems = new ArrayList<>(requestDto.orderItemsDtoSet().size());
+        Set<OrderItemResponseDto> itemDtos = new LinkedHashSet<>();
+        List<OrderEventItem> eventItems = new ArrayList<>(requestDto.orderItemsDtoSet().size());
+
+        for (OrderItemDto orderItemDto : requestDto.orderItemsDtoSet()) {
+            LaptopRecord laptop = laptops.get(orderItemDto.laptopId());
+            OrderItemRecord orderItem = new OrderItemRecord(TimeOrderedUuids.next(), orderId, laptop.laptopId(),
+                    orderItemDto.quantity(), orderPricing.addItem(laptop.price(), orderItemDto.quantity()));
+
+            orderItems.add(orderItem);
+            itemDtos.add(new OrderItemResponseDto(laptop.laptopId(), laptop.brand(), laptop.model(),
+                    laptop.price(), orderItem.quantity(), orderItem.totalPrice()));
+            eventItems.add(new OrderEventItem(laptop.laptopId(), orderItem.quantity(), orderItem.totalPrice()));
+        }
+
+        OrderRecord order = new OrderRecord(orderId, requestDto.userId(), orderPricing.totalAmount(),
+                LocalDateTime.now().truncatedTo(ChronoUnit.MICROS), OrderStatus.PENDING);
+        OrderEvent event = new OrderEvent(TimeOrderedUuids.next(), OrderEventType.PLACED, LocalDateTime.now(),
+                orderId, order.userId(), order.totalAmount(), order.timestamp(), eventItems);
+
+        return orderRepository.insertPending(order)
+                .thenMany(Flux.fromIterable(orderItems).concatMap(entityTemplate::insert))
+                .then(entityTemplate.insert(
+                        new OutboxEventRecord(event.eventId(), orderEventOutbox.toPayload(event))))
+                .then(Mono.fromSupplier(() -> new OrderResponseDto(order.orderId(), order.userId(), itemDtos,
+                        order.totalAmount(), order.timestamp(), order.orderStatus())));
+    }
+
+    /**
+     * Schedules the expiry of a committed order and announces its stock changes.
+     *
+     * @param order               the committed order
+     * @param requestedQuantities a map of laptop IDs to the deducted quantities
+     */
+    private void onOrderPlaced(OrderResponseDto order, Map<UUID, Integer> requestedQuantities) {
+        Map<UUID, Integer> quantityChanges = new TreeMap<>();
+        requestedQuantities.forEach((laptopId, quantity) -> quantityChanges.put(laptopId, -quantity));
+
+        orderExpiryQueue.schedule(order.orderId(), order.timestamp().plus(orderExpiryProperties.pendingTimeout()));
+        eventPublisher.publishEvent(new StockChangedEvent(quantityChanges));
+        orderMetrics.orderPlaced();
+    }
+
+    private IllegalArgumentException insufficientStock(UUID laptopId) {
+        orderMetrics.orderRejected();
+
+        return new IllegalArgumentException("Requested quantity for laptop with ID: "
+                + laptopId + " is greater than available in stock");
+    }
+}
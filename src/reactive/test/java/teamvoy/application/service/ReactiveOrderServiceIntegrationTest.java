@@ -0,0 +1,138 @@
+package teamvoy.application.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import teamvoy.application.dto.laptop.response.LaptopResponseDto;
+import teamvoy.application.dto.order.event.OrderEvent;
+import teamvoy.application.dto.order.event.OrderEventItem;
+import teamvoy.application.dto.order.request.OrderItemDto;
+import teamvoy.application.dto.order.request.OrderRequestDto;
+import teamvoy.application.dto.order.response.OrderResponseDto;
+import teamvoy.application.entity.Laptop;
+import teamvoy.application.entity.enums.OrderEventType;
+import teamvoy.application.outbox.OrderEventJournal;
+import teamvoy.application.outbox.OutboxRelay;
+import teamvoy.application.repo.LaptopRepository;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:teamvoy_reactive;MODE=MariaDB;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+        "spring.r2dbc.url=r2dbc:h2:mem:///teamvoy_reactive;MODE=MariaDB;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+        "spring.r2dbc.username=sa",
+        "spring.r2dbc.password="
+})
+@ActiveProfiles({"test", "reactive"})
+public class ReactiveOrderServiceIntegrationTest {
+    private static final int STOCK = 50;
+    private static final int BUYERS = 400;
+
+    @Autowired
+    private ReactiveOrderService reactiveOrderService;
+
+    @Autowired
+    private LaptopRepository laptopRepository;
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private OrderEventJournal orderEventJournal;
+
+    @Test
+    void placeOrder_ConcurrentBuyersOfSameLaptop_ShouldNotOversell() {
+        UUID laptopId = createLaptop(STOCK);
+        AtomicInteger rejected = new AtomicInteger();
+
+        List<OrderResponseDto> placed = Flux.range(0, BUYERS)
+                .flatMap(i -> reactiveOrderService.placeOrder(new OrderRequestDto(
+                                UUID.randomUUID(), Set.of(new OrderItemDto(laptopId, 1))))
+                        .onErrorResume(IllegalArgumentException.class, e -> {
+                            rejected.incrementAndGet();
+                            return Mono.empty();
+                        }), 32)
+                .collectList()
+                .block(Duration.ofSeconds(60));
+
+        assertEquals(STOCK, placed.size());
+        assertEquals(BUYERS - STOCK, rejected.get());
+        assertEquals(0, laptopRepository.findById(laptopId).orElseThrow().getQuantity());
+        assertEquals(new BigDecimal("1900.00"), placed.get(0).totalAmount());
+        assertEquals(placed.get(0), reactiveOrderService.getOrder(placed.get(0).orderId()).block());
+    }
+
+    @Test
+    void getAll_ReactiveMode_ShouldStreamCatalogPageAndPlaceOrder() {
+        UUID laptopId = createLaptop(5);
+
+        List<LaptopResponseDto> page = webTestClient.get()
+                .uri("/laptops?page=0&size=1000&sort=createdAt")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(LaptopResponseDto.class)
+                .getResponseBody()
+                .collectList()
+                .block(Duration.ofSeconds(10));
+        assertTrue(page.stream().anyMatch(laptop -> laptop.laptopId().equals(laptopId)));
+
+        OrderResponseDto order = webTestClient.post()
+                .uri("/orders/place")
+                .bodyValue(new OrderRequestDto(UUID.randomUUID(), Set.of(new OrderItemDto(laptopId, 2))))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(OrderResponseDto.class)
+                .returnResult()
+                .getResponseBody();
+
+        webTestClient.get()
+                .uri("/orders/" + order.orderId())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(OrderResponseDto.class)
+                .isEqualTo(order);
+        assertEquals(3, laptopRepository.findById(laptopId).orElseThrow().getQuantity());
+
+        OrderEvent placedEvent = Mono.fromCallable(() -> {
+                    outboxRelay.relay();
+                    return orderEventJournal.read(orderEventJournal.startOffset(), Integer.MAX_VALUE).events();
+                })
+                .flatMapIterable(events -> events)
+                .filter(event -> event.orderId().equals(order.orderId()))
+                .next()
+                .repeatWhenEmpty(100, repeats -> repeats.delayElements(Duration.ofMillis(50)))
+                .block(Duration.ofSeconds(10));
+        assertEquals(OrderEventType.PLACED, placedEvent.type());
+        assertEquals(List.of(new OrderEventItem(laptopId, 2, new BigDecimal("3800.00"))), placedEvent.items());
+    }
+
+    private UUID createLaptop(int quantity) {
+        Laptop laptop = new Laptop();
+        laptop.setBrand("Lenovo");
+        laptop.setModel("ThinkPad X1");
+        laptop.setProcessor("Intel Core i7-1365U");
+        laptop.setRam(32);
+        laptop.setPrice(new BigDecimal("1900.00"));
+        laptop.setQuantity(quantity);
+        laptop.setCreatedAt(LocalDateTime.now());
+
+        return laptopRepository.save(laptop).getLaptopId();
+    }
+}
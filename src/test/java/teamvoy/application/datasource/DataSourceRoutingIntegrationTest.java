@@ -0,0 +1,102 @@
+package teamvoy.application.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import teamvoy.application.dto.laptop.request.LaptopRequestDto;
+import teamvoy.application.dto.laptop.response.LaptopResponseDto;
+import teamvoy.application.dto.order.request.OrderItemDto;
+import teamvoy.application.dto.order.request.OrderRequestDto;
+import teamvoy.application.dto.order.response.OrderResponseDto;
+import teamvoy.application.service.LaptopService;
+import teamvoy.application.service.OrderService;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:teamvoy_routing_primary;MODE=MariaDB;DB_CLOSE_DELAY=-1",
+        "datasource.routing.replicas[0].url=" + DataSourceRoutingIntegrationTest.REPLICA_URL,
+        "datasource.routing.replicas[0].username=sa",
+        "datasource.routing.replicas[0].password="
+})
+@ActiveProfiles("test")
+public class DataSourceRoutingIntegrationTest {
+    static final String REPLICA_URL = "jdbc:h2:mem:teamvoy_replica;MODE=MariaDB;DB_CLOSE_DELAY=-1;"
+            + "INIT=RUNSCRIPT FROM 'classpath:replica-schema.sql'";
+
+    @Autowired
+    private LaptopService laptopService;
+
+    @Autowired
+    private OrderService orderService;
+
+    private JdbcTemplate replica;
+
+    @BeforeEach
+    void setUp() {
+        replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+        replica.update("delete from laptops");
+    }
+
+    @Test
+    void exportLaptops_ReadOnlyTransaction_ShouldReadFromReplica() {
+        UUID replicaLaptopId = UUID.randomUUID();
+        replica.update("insert into laptops values (?, 'Replica', 'R1', 'CPU', 16, 999.00, 5, ?, 0)",
+                replicaLaptopId, LocalDateTime.now());
+        LaptopResponseDto primaryLaptop = laptopService.createLaptop(
+                new LaptopRequestDto("Primary", "P1", "CPU", 16, new BigDecimal("1999.00"), 5));
+
+        List<UUID> fromReplica = new ArrayList<>();
+        laptopService.exportLaptops(laptop -> fromReplica.add(laptop.laptopId()));
+        List<UUID> fromPrimary = new ArrayList<>();
+        PrimaryReads.force(() -> {
+            laptopService.exportLaptops(laptop -> fromPrimary.add(laptop.laptopId()));
+            return null;
+        });
+
+        assertEquals(List.of(replicaLaptopId), fromReplica);
+        assertTrue(fromPrimary.contains(primaryLaptop.laptopId()));
+        assertFalse(fromPrimary.contains(replicaLaptopId));
+    }
+
+    @Test
+    void getAll_CatalogPage_ShouldSeedStockFromPrimary() {
+        UUID replicaLaptopId = UUID.randomUUID();
+        replica.update("insert into laptops values (?, 'Replica', 'R1', 'CPU', 16, 999.00, 5, ?, 0)",
+                replicaLaptopId, LocalDateTime.now());
+        LaptopResponseDto primaryLaptop = laptopService.createLaptop(
+                new LaptopRequestDto("Primary", "P3", "CPU", 16, new BigDecimal("1999.00"), 5));
+
+        List<UUID> page = laptopService.getAll(PageRequest.of(0, 100)).stream()
+                .map(LaptopResponseDto::laptopId)
+                .toList();
+
+        assertTrue(page.contains(primaryLaptop.laptopId()));
+        assertFalse(page.contains(replicaLaptopId));
+    }
+
+    @Test
+    void getOrder_RightAfterPlaceOrder_ShouldReadOwnWriteFromPrimary() {
+        LaptopResponseDto laptop = laptopService.createLaptop(
+                new LaptopRequestDto("Primary", "P2", "CPU", 16, new BigDecimal("1999.00"), 5));
+
+        OrderResponseDto placedOrder = orderService.placeOrder(new OrderRequestDto(
+                UUID.randomUUID(), Set.of(new OrderItemDto(laptop.laptopId(), 1))));
+
+        assertEquals(placedOrder.orderId(), orderService.getOrder(placedOrder.orderId()).orderId());
+        assertEquals(1, orderService.getUserOrders(placedOrder.userId(), PageRequest.of(0, 10)).size());
+    }
+}
@@ -0,0 +1,108 @@
+package teamvoy.application.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ReplicaRoutingDataSourceTest {
+    private DataSource replica1;
+    private DataSource replica2;
+    private DataSource primary;
+    private Connection replicaConnection1;
+    private Connection replicaConnection2;
+    private Connection primaryConnection;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        replica1 = mock(DataSource.class);
+        replica2 = mock(DataSource.class);
+        primary = mock(DataSource.class);
+        replicaConnection1 = mock(Connection.class);
+        replicaConnection2 = mock(Connection.class);
+        primaryConnection = mock(Connection.class);
+
+        when(primary.getConnection()).thenReturn(primaryConnection);
+    }
+
+    @Test
+    public void getConnection_HealthyReplicas_ShouldAlternateBetweenThem() throws SQLException {
+        when(replica1.getConnection()).thenReturn(replicaConnection1);
+        when(replica2.getConnection()).thenReturn(replicaConnection2);
+        ReplicaRoutingDataSource dataSource = new ReplicaRoutingDataSource(List.of(replica1, replica2), primary);
+
+        assertSame(replicaConnection1, dataSource.getConnection());
+        assertSame(replicaConnection2, dataSource.getConnection());
+        assertSame(replicaConnection1, dataSource.getConnection());
+        verifyNoInteractions(primary);
+    }
+
+    @Test
+    public void getConnection_ReplicaUnavailable_ShouldUseNextReplica() throws SQLException {
+        when(replica1.getConnection()).thenThrow(new SQLException("Connection refused"));
+        when(replica2.getConnection()).thenReturn(replicaConnection2);
+        ReplicaRoutingDataSource dataSource = new ReplicaRoutingDataSource(List.of(replica1, replica2), primary);
+
+        assertSame(replicaConnection2, dataSource.getConnection());
+        assertSame(replicaConnection2, dataSource.getConnection());
+        verifyNoInteractions(primary);
+    }
+
+    @Test
+    public void getConnection_AllReplicasUnavailable_ShouldFallBackToPrimary() throws SQLException {
+        when(replica1.getConnection()).thenThrow(new SQLException("Connection refused"));
+        ReplicaRoutingDataSource dataSource = new ReplicaRoutingDataSource(List.of(replica1), primary);
+
+        assertSame(primaryConnection, dataSource.getConnection());
+    }
+
+    @Test
+    public void getConnection_PrimaryForced_ShouldUsePrimary() throws SQLException {
+        ReplicaRoutingDataSource dataSource = new ReplicaRoutingDataSource(List.of(replica1), primary);
+
+        Connection connection = PrimaryReads.force(() -> {
+            try {
+                return dataSource.getConnection();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        assertSame(primaryConnection, connection);
+        verifyNoInteractions(replica1);
+    }
+
+    @Test
+    public void getConnectionWithCredentials_PrimaryNotForced_ShouldThrowFeatureNotSupported() {
+        ReplicaRoutingDataSource dataSource = new ReplicaRoutingDataSource(List.of(replica1), primary);
+
+        assertThrows(SQLFeatureNotSupportedException.class, () -> dataSource.getConnection("user", "secret"));
+        verifyNoInteractions(replica1, primary);
+    }
+
+    @Test
+    public void getConnectionWithCredentials_PrimaryForced_ShouldUsePrimary() throws SQLException {
+        when(primary.getConnection("user", "secret")).thenReturn(primaryConnection);
+        ReplicaRoutingDataSource dataSource = new ReplicaRoutingDataSource(List.of(replica1), primary);
+
+        Connection connection = PrimaryReads.force(() -> {
+            try {
+                return dataSource.getConnection("user", "secret");
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        assertSame(primaryConnection, connection);
+        verifyNoInteractions(replica1);
+    }
+}
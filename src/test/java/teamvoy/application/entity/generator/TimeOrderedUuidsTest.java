@@ -0,0 +1,68 @@
+package teamvoy.application.entity.generator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+public class TimeOrderedUuidsTest {
+    private static final long NOW = 1_760_000_000_000L;
+
+    @Test
+    public void generate_SameMillisecond_ShouldIssueIncreasingVersion7Ids() {
+        TimeOrderedUuids uuids = new TimeOrderedUuids(() -> NOW);
+
+        List<UUID> issued = generate(uuids, 10_000);
+
+        assertIncreasing(issued);
+        assertEquals(7, issued.get(0).version());
+        assertEquals(2, issued.get(0).variant());
+        assertEquals(NOW, TimeOrderedUuids.timestamp(issued.get(0)));
+        assertTrue(TimeOrderedUuids.timestamp(issued.get(issued.size() - 1)) > NOW);
+    }
+
+    @Test
+    public void generate_ClockMovesBackwards_ShouldKeepIssuingIncreasingIds() {
+        AtomicLong clock = new AtomicLong(NOW);
+        TimeOrderedUuids uuids = new TimeOrderedUuids(clock::get);
+
+        UUID beforeAdjustment = uuids.generate();
+        clock.set(NOW - 1000);
+        UUID afterAdjustment = uuids.generate();
+        clock.set(NOW + 1);
+        UUID afterRecovery = uuids.generate();
+
+        assertIncreasing(List.of(beforeAdjustment, afterAdjustment, afterRecovery));
+        assertEquals(NOW, TimeOrderedUuids.timestamp(afterAdjustment));
+        assertEquals(NOW + 1, TimeOrderedUuids.timestamp(afterRecovery));
+    }
+
+    private List<UUID> generate(TimeOrderedUuids uuids, int count) {
+        List<UUID> issued = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            issued.add(uuids.generate());
+        }
+
+        return issued;
+    }
+
+    private void assertIncreasing(List<UUID> issued) {
+        for (int i = 1; i < issued.size(); i++) {
+            assertTrue(Arrays.compareUnsigned(toBytes(issued.get(i - 1)), toBytes(issued.get(i))) < 0,
+                    "ID " + i + " does not sort after its predecessor as BINARY(16)");
+        }
+    }
+
+    private byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+}
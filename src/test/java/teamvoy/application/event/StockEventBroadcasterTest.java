@@ -0,0 +1,120 @@
+package teamvoy.application.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import teamvoy.application.config.StockEventsProperties;
+import teamvoy.application.dto.laptop.response.StockDeltaDto;
+
+public class StockEventBroadcasterTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    public void flush_SeveralChangesOfSameLaptop_ShouldSendOneCoalescedEventToAllSubscribers() throws IOException {
+        StockEventBroadcaster broadcaster = createBroadcaster(Duration.ofHours(1));
+        RecordingEmitter subscriber1 = new RecordingEmitter();
+        RecordingEmitter subscriber2 = new RecordingEmitter();
+        broadcaster.register(subscriber1);
+        broadcaster.register(subscriber2);
+        UUID laptopId1 = UUID.randomUUID();
+        UUID laptopId2 = UUID.randomUUID();
+        UUID laptopId3 = UUID.randomUUID();
+
+        broadcaster.onStockChanged(new StockChangedEvent(Map.of(laptopId1, -2, laptopId2, -1)));
+        broadcaster.onStockChanged(new StockChangedEvent(Map.of(laptopId1, -3, laptopId3, 4)));
+        broadcaster.onStockChanged(new StockChangedEvent(Map.of(laptopId3, -4)));
+        broadcaster.flush();
+
+        assertEquals(1, subscriber1.events.size());
+        assertSame(subscriber1.events.get(0), subscriber2.events.get(0));
+
+        String frame = subscriber1.events.get(0).stream()
+                .map(data -> data.getData().toString())
+                .collect(Collectors.joining());
+        assertTrue(frame.startsWith("event:stock\ndata:"));
+        String json = frame.substring("event:stock\ndata:".length()).trim();
+        assertEquals(Set.of(new StockDeltaDto(laptopId1, -5), new StockDeltaDto(laptopId2, -1)),
+                Set.of(objectMapper.readValue(json, StockDeltaDto[].class)));
+
+        broadcaster.flush();
+
+        assertEquals(1, subscriber1.events.size());
+    }
+
+    @Test
+    public void flush_SubscriberConnectionClosed_ShouldDropSubscriber() {
+        StockEventBroadcaster broadcaster = createBroadcaster(Duration.ZERO);
+        RecordingEmitter closed = new RecordingEmitter();
+        closed.closed = true;
+        RecordingEmitter open = new RecordingEmitter();
+        broadcaster.register(closed);
+        broadcaster.register(open);
+
+        broadcaster.flush();
+
+        assertEquals(1, broadcaster.subscriberCount());
+        assertEquals(1, open.events.size());
+    }
+
+    @Test
+    public void flush_SubscriberFallsBehind_ShouldDropItWithoutWaitingForSends() {
+        List<Runnable> sends = new ArrayList<>();
+        StockEventBroadcaster broadcaster = new StockEventBroadcaster(objectMapper,
+                new StockEventsProperties(Duration.ofSeconds(1), Duration.ZERO, 1, 2), sends::add);
+        RecordingEmitter slow = new RecordingEmitter();
+        broadcaster.register(slow);
+
+        broadcaster.flush();
+        broadcaster.flush();
+
+        assertEquals(1, broadcaster.subscriberCount());
+        assertEquals(1, sends.size());
+        assertTrue(slow.events.isEmpty());
+
+        broadcaster.flush();
+
+        assertEquals(0, broadcaster.subscriberCount());
+
+        sends.get(0).run();
+
+        assertTrue(slow.events.isEmpty());
+        assertTrue(slow.completed);
+    }
+
+    private StockEventBroadcaster createBroadcaster(Duration heartbeat) {
+        return new StockEventBroadcaster(objectMapper,
+                new StockEventsProperties(Duration.ofSeconds(1), heartbeat, 1, 16), Runnable::run);
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+        private final List<Set<ResponseBodyEmitter.DataWithMediaType>> events = new ArrayList<>();
+        private boolean closed;
+        private boolean completed;
+
+        @Override
+        public void send(Set<ResponseBodyEmitter.DataWithMediaType> items) throws IOException {
+            if (closed) {
+                throw new IOException("Broken pipe");
+            }
+            events.add(items);
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+    }
+}
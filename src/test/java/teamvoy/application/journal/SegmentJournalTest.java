@@ -0,0 +1,90 @@
+package teamvoy.application.journal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class SegmentJournalTest {
+    private static final int SEGMENT_SIZE = 32;
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    public void read_RecordsAcrossSegments_ShouldReturnRecordsFromAnyOffset() throws IOException {
+        try (SegmentJournal journal = new SegmentJournal(directory, SEGMENT_SIZE, 10)) {
+            journal.append(records("event-01", "event-02", "event-03", "event-04", "event-05"));
+
+            List<JournalRecord> all = journal.read(journal.startOffset(), 10);
+            List<JournalRecord> tail = journal.read(all.get(2).offset(), 10);
+
+            assertEquals(List.of("event-01", "event-02", "event-03", "event-04", "event-05"), payloads(all));
+            assertEquals(List.of("event-03", "event-04", "event-05"), payloads(tail));
+            assertEquals(journal.endOffset(), all.get(4).nextOffset());
+            assertEquals(3, segmentFiles().size());
+        }
+    }
+
+    @Test
+    public void open_LastRecordTorn_ShouldRecoverUpToLastIntactRecord() throws IOException {
+        long tornOffset;
+        try (SegmentJournal journal = new SegmentJournal(directory, SEGMENT_SIZE, 10)) {
+            journal.append(records("event-01", "event-02", "event-03"));
+            tornOffset = journal.read(0, 10).get(2).offset();
+        }
+        Path lastSegment = segmentFiles().get(segmentFiles().size() - 1);
+        try (RandomAccessFile file = new RandomAccessFile(lastSegment.toFile(), "rw")) {
+            file.seek(tornOffset - Long.parseLong(lastSegment.getFileName().toString().substring(0, 20)) + 10);
+            file.write('X');
+        }
+
+        try (SegmentJournal journal = new SegmentJournal(directory, SEGMENT_SIZE, 10)) {
+            assertEquals(tornOffset, journal.endOffset());
+
+            journal.append(records("event-04"));
+
+            assertEquals(List.of("event-01", "event-02", "event-04"), payloads(journal.read(0, 10)));
+        }
+    }
+
+    @Test
+    public void append_MoreSegmentsThanRetained_ShouldDeleteOldestSegments() throws IOException {
+        try (SegmentJournal journal = new SegmentJournal(directory, SEGMENT_SIZE, 2)) {
+            journal.append(records("event-01", "event-02", "event-03", "event-04", "event-05"));
+
+            assertEquals(2, segmentFiles().size());
+            assertEquals(List.of("event-03", "event-04", "event-05"), payloads(journal.read(journal.startOffset(), 10)));
+            assertThrows(IllegalArgumentException.class, () -> journal.read(0, 10));
+        }
+    }
+
+    @Test
+    public void open_DirectoryAlreadyOpen_ShouldThrowIllegalStateException() throws IOException {
+        try (SegmentJournal ignored = new SegmentJournal(directory, SEGMENT_SIZE, 10)) {
+            assertThrows(IllegalStateException.class, () -> new SegmentJournal(directory, SEGMENT_SIZE, 10));
+        }
+    }
+
+    private List<byte[]> records(String... payloads) {
+        return Stream.of(payloads).map(payload -> payload.getBytes(StandardCharsets.UTF_8)).toList();
+    }
+
+    private List<String> payloads(List<JournalRecord> records) {
+        return records.stream().map(record -> new String(record.payload(), StandardCharsets.UTF_8)).toList();
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.toString().endsWith(".segment")).sorted().toList();
+        }
+    }
+}
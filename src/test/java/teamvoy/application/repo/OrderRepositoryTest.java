@@ -0,0 +1,149 @@
+package teamvoy.application.repo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import teamvoy.application.dto.order.response.OrderResponseDto;
+import teamvoy.application.entity.Laptop;
+import teamvoy.application.entity.Order;
+import teamvoy.application.entity.OrderItem;
+import teamvoy.application.entity.enums.OrderStatus;
+import teamvoy.application.mapper.OrderMapper;
+import teamvoy.application.mapper.impl.OrderItemMapperImpl;
+import teamvoy.application.mapper.impl.OrderMapperImpl;
+import teamvoy.application.repo.projection.OrderItemRow;
+import teamvoy.application.repo.projection.OrderSummary;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({OrderMapperImpl.class, OrderItemMapperImpl.class})
+public class OrderRepositoryTest {
+    private static final int ORDER_ITEMS = 50;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderMapper orderMapper;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void findOrderItemRowsByOrderId_OrderWith50Items_ShouldFetchWholeOrderInSingleStatement() {
+        UUID orderId = persistOrder(ORDER_ITEMS);
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+
+        List<OrderItemRow> orderItemRows = orderRepository.findOrderItemRowsByOrderId(orderId);
+        OrderResponseDto order = orderMapper.toDto(orderItemRows);
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(ORDER_ITEMS, order.orderItems().size());
+        assertEquals(new BigDecimal("2512.25"), order.totalAmount());
+    }
+
+    @Test
+    void save_OrderWith50Items_ShouldInsertItemsWithOrderIdAndNotUpdateThem() {
+        Set<OrderItem> orderItems = persistLaptopItems(ORDER_ITEMS);
+        entityManager.flush();
+
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+
+        orderRepository.save(Order.builder()
+                .userId(UUID.randomUUID())
+                .orderItems(orderItems)
+                .totalAmount(new BigDecimal("2512.25"))
+                .timestamp(LocalDateTime.now())
+                .orderStatus(OrderStatus.PENDING)
+                .build());
+        entityManager.flush();
+
+        assertEquals(ORDER_ITEMS + 1, statistics.getEntityInsertCount());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findSummariesByUserId_SeveralOrders_ShouldReturnRequestedPageMostRecentFirst() {
+        UUID userId = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        for (int i = 0; i < 5; i++) {
+            orderRepository.save(Order.builder()
+                    .userId(userId)
+                    .orderItems(Set.of())
+                    .totalAmount(BigDecimal.valueOf(i))
+                    .timestamp(now.minusMinutes(i))
+                    .orderStatus(OrderStatus.PAID)
+                    .build());
+        }
+        orderRepository.save(Order.builder()
+                .userId(UUID.randomUUID())
+                .orderItems(Set.of())
+                .totalAmount(BigDecimal.TEN)
+                .timestamp(now)
+                .orderStatus(OrderStatus.PAID)
+                .build());
+
+        List<OrderSummary> summaries = orderRepository.findSummariesByUserId(userId, PageRequest.of(1, 2));
+
+        assertEquals(2, summaries.size());
+        assertEquals(List.of(now.minusMinutes(2), now.minusMinutes(3)),
+                summaries.stream().map(OrderSummary::timestamp).toList());
+    }
+
+    private UUID persistOrder(int itemCount) {
+        Order order = Order.builder()
+                .userId(UUID.randomUUID())
+                .orderItems(persistLaptopItems(itemCount))
+                .totalAmount(new BigDecimal("2512.25"))
+                .timestamp(LocalDateTime.now())
+                .orderStatus(OrderStatus.PENDING)
+                .build();
+
+        return orderRepository.save(order).getOrderId();
+    }
+
+    private Set<OrderItem> persistLaptopItems(int itemCount) {
+        Set<OrderItem> orderItems = new HashSet<>();
+
+        for (int i = 0; i < itemCount; i++) {
+            Laptop laptop = new Laptop();
+            laptop.setBrand("Brand " + i);
+            laptop.setModel("Model " + i);
+            laptop.setProcessor("Processor " + i);
+            laptop.setRam(16);
+            laptop.setPrice(BigDecimal.valueOf(5000 + i, 2));
+            laptop.setQuantity(10);
+            laptop.setCreatedAt(LocalDateTime.now());
+            entityManager.persist(laptop);
+
+            OrderItem orderItem = new OrderItem();
+            orderItem.setLaptop(laptop);
+            orderItem.setQuantity(1);
+            orderItem.setTotalPrice(laptop.getPrice());
+            orderItems.add(orderItem);
+        }
+
+        return orderItems;
+    }
+}
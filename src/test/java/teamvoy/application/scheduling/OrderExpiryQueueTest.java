@@ -0,0 +1,45 @@
+package teamvoy.application.scheduling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import teamvoy.application.config.OrderExpiryProperties;
+
+public class OrderExpiryQueueTest {
+    @Test
+    public void pollExpired_MixedDeadlines_ShouldReturnOnlyDueOrdersEarliestFirst() {
+        OrderExpiryQueue queue = createQueue(10);
+        UUID dueLater = UUID.randomUUID();
+        UUID dueFirst = UUID.randomUUID();
+        UUID notDue = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+
+        queue.schedule(dueLater, now.minusSeconds(1));
+        queue.schedule(notDue, now.plusMinutes(10));
+        queue.schedule(dueFirst, now.minusMinutes(1));
+
+        assertEquals(List.of(dueFirst, dueLater), queue.pollExpired(10));
+        assertTrue(queue.pollExpired(10).isEmpty());
+        assertEquals(1, queue.size());
+    }
+
+    @Test
+    public void schedule_QueueFull_ShouldRejectOrder() {
+        OrderExpiryQueue queue = createQueue(1);
+
+        assertTrue(queue.schedule(UUID.randomUUID(), LocalDateTime.now()));
+        assertFalse(queue.schedule(UUID.randomUUID(), LocalDateTime.now()));
+    }
+
+    private OrderExpiryQueue createQueue(int capacity) {
+        return new OrderExpiryQueue(
+                new OrderExpiryProperties(Duration.ofMinutes(10), 500, Duration.ofSeconds(30), capacity,
+                        Duration.ofDays(7)));
+    }
+}
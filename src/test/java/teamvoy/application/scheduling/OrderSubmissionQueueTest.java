@@ -0,0 +1,80 @@
+package teamvoy.application.scheduling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import teamvoy.application.config.OrderSubmissionProperties;
+import teamvoy.application.dto.order.request.OrderRequestDto;
+import teamvoy.application.dto.order.request.OrderSubmission;
+import teamvoy.application.dto.order.response.OrderSubmissionResponseDto;
+import teamvoy.application.entity.enums.SubmissionStatus;
+
+public class OrderSubmissionQueueTest {
+    @Test
+    public void getStatus_ManyCompletedSubmissions_ShouldKeepQueuedStatuses() {
+        OrderSubmissionQueue queue = createQueue(10, 1);
+        UUID queued = UUID.randomUUID();
+
+        assertTrue(queue.offer(submission(queued)));
+        queue.complete(IntStream.range(0, 100)
+                .mapToObj(i -> new OrderSubmissionResponseDto(UUID.randomUUID(), SubmissionStatus.PLACED, null))
+                .toList());
+
+        assertEquals(Optional.of(new OrderSubmissionResponseDto(queued, SubmissionStatus.QUEUED, null)),
+                queue.getStatus(queued));
+    }
+
+    @Test
+    public void complete_QueuedSubmission_ShouldReplaceQueuedStatus() {
+        OrderSubmissionQueue queue = createQueue(10, 10);
+        UUID orderId = UUID.randomUUID();
+        OrderSubmissionResponseDto placed = new OrderSubmissionResponseDto(orderId, SubmissionStatus.PLACED, null);
+
+        queue.offer(submission(orderId));
+        queue.complete(List.of(placed));
+
+        assertEquals(Optional.of(placed), queue.getStatus(orderId));
+    }
+
+    @Test
+    public void offer_QueueFull_ShouldRejectSubmissionWithoutStatus() {
+        OrderSubmissionQueue queue = createQueue(1, 10);
+        UUID rejected = UUID.randomUUID();
+
+        assertTrue(queue.offer(submission(UUID.randomUUID())));
+        assertFalse(queue.offer(submission(rejected)));
+        assertTrue(queue.getStatus(rejected).isEmpty());
+    }
+
+    @Test
+    public void offer_QueueClosed_ShouldRejectSubmissionAndKeepQueuedOnes() throws InterruptedException {
+        OrderSubmissionQueue queue = createQueue(10, 10);
+        OrderSubmission accepted = submission(UUID.randomUUID());
+        UUID rejected = UUID.randomUUID();
+
+        assertTrue(queue.offer(accepted));
+        queue.close();
+
+        assertFalse(queue.offer(submission(rejected)));
+        assertTrue(queue.getStatus(rejected).isEmpty());
+        assertEquals(List.of(accepted), queue.pollBatch(10, Duration.ZERO));
+        assertEquals(List.of(), queue.pollBatch(10, Duration.ZERO));
+    }
+
+    private OrderSubmission submission(UUID orderId) {
+        return new OrderSubmission(orderId, new OrderRequestDto(UUID.randomUUID(), Set.of()));
+    }
+
+    private OrderSubmissionQueue createQueue(int capacity, long maxStatuses) {
+        return new OrderSubmissionQueue(
+                new OrderSubmissionProperties(capacity, 200, maxStatuses, Duration.ofHours(1)));
+    }
+}
@@ -0,0 +1,66 @@
+package teamvoy.application.scheduling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import teamvoy.application.config.OrderSubmissionProperties;
+import teamvoy.application.dto.order.request.OrderRequestDto;
+import teamvoy.application.dto.order.request.OrderSubmission;
+import teamvoy.application.dto.order.response.OrderSubmissionResponseDto;
+import teamvoy.application.entity.enums.SubmissionStatus;
+import teamvoy.application.service.OrderService;
+
+public class OrderSubmissionWorkerTest {
+    @Test
+    public void stop_SubmissionsStillQueued_ShouldPlaceThemBeforeReportingStopped() throws InterruptedException {
+        OrderSubmissionProperties properties = new OrderSubmissionProperties(10, 1, 100, Duration.ofHours(1));
+        OrderSubmissionQueue queue = new OrderSubmissionQueue(properties);
+        OrderService orderService = mock(OrderService.class);
+        CountDownLatch batchStarted = new CountDownLatch(1);
+        CountDownLatch releaseBatch = new CountDownLatch(1);
+        when(orderService.placeOrderBatch(anyList())).thenAnswer(invocation -> {
+            batchStarted.countDown();
+            releaseBatch.await();
+            List<OrderSubmission> batch = invocation.getArgument(0);
+            return batch.stream()
+                    .map(submission -> new OrderSubmissionResponseDto(
+                            submission.orderId(), SubmissionStatus.PLACED, null))
+                    .toList();
+        });
+        OrderSubmissionWorker worker = new OrderSubmissionWorker(queue, orderService, properties);
+        List<UUID> orderIds = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        CountDownLatch stopped = new CountDownLatch(1);
+
+        worker.start();
+        assertTrue(queue.offer(submission(orderIds.get(0))));
+        assertTrue(batchStarted.await(10, TimeUnit.SECONDS));
+        assertTrue(queue.offer(submission(orderIds.get(1))));
+        assertTrue(queue.offer(submission(orderIds.get(2))));
+        worker.stop(stopped::countDown);
+
+        assertFalse(queue.offer(submission(UUID.randomUUID())));
+        assertFalse(stopped.await(200, TimeUnit.MILLISECONDS));
+        releaseBatch.countDown();
+        assertTrue(stopped.await(10, TimeUnit.SECONDS));
+        assertFalse(worker.isRunning());
+        orderIds.forEach(orderId -> assertEquals(
+                Optional.of(new OrderSubmissionResponseDto(orderId, SubmissionStatus.PLACED, null)),
+                queue.getStatus(orderId)));
+    }
+
+    private OrderSubmission submission(UUID orderId) {
+        return new OrderSubmission(orderId, new OrderRequestDto(UUID.randomUUID(), Set.of()));
+    }
+}
@@ -0,0 +1,150 @@
+package teamvoy.application.scheduling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import teamvoy.application.Application;
+import teamvoy.application.dto.laptop.request.LaptopRequestDto;
+import teamvoy.application.dto.order.request.OrderItemDto;
+import teamvoy.application.dto.order.request.OrderRequestDto;
+import teamvoy.application.repo.LaptopRepository;
+import teamvoy.application.repo.OrderRepository;
+import teamvoy.application.service.LaptopService;
+import teamvoy.application.service.OrderService;
+
+/**
+ * Runs several application instances against one database, as replicas behind a load balancer would.
+ */
+public class SchedulerLeasesIntegrationTest {
+    private static final int INSTANCES = 3;
+    private static final String CLUSTER_URL =
+            "jdbc:h2:mem:teamvoy_cluster;MODE=MariaDB;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000";
+
+    private static final List<ConfigurableApplicationContext> instances = new ArrayList<>();
+    private static ExecutorService executor;
+
+    @BeforeAll
+    static void startInstances() {
+        for (int i = 0; i < INSTANCES; i++) {
+            instances.add(new SpringApplicationBuilder(Application.class)
+                    .profiles("test")
+                    .web(WebApplicationType.NONE)
+                    .run("--spring.datasource.url=" + CLUSTER_URL,
+                            "--spring.jpa.hibernate.ddl-auto=update",
+                            "--scheduling.lease.node-id=instance-" + i,
+                            "--scheduling.lease.lock-at-most-for=2s",
+                            "--scheduling.lease.lock-at-least-for=1m"));
+        }
+        executor = Executors.newFixedThreadPool(INSTANCES);
+    }
+
+    @AfterAll
+    static void stopInstances() {
+        executor.shutdownNow();
+        instances.forEach(ConfigurableApplicationContext::close);
+    }
+
+    @Test
+    void runExclusively_ConcurrentInstances_ShouldRunTaskOnce() throws Exception {
+        AtomicInteger runs = new AtomicInteger();
+
+        List<Boolean> results = onAllInstances(instance -> instance.getBean(SchedulerLeases.class)
+                .runExclusively("test.exclusive", runs::incrementAndGet));
+
+        assertEquals(1, runs.get());
+        assertEquals(1, results.stream().filter(Boolean::booleanValue).count());
+    }
+
+    @Test
+    void runExclusively_HolderDiesWithoutReleasing_ShouldHandOverAfterLeaseExpires() throws Exception {
+        SchedulerLeases deadHolder = instances.get(0).getBean(SchedulerLeases.class);
+        SchedulerLeases successor = instances.get(1).getBean(SchedulerLeases.class);
+        AtomicInteger runs = new AtomicInteger();
+
+        assertTrue(deadHolder.tryAcquire("test.handover", LocalDateTime.now().truncatedTo(ChronoUnit.MICROS)));
+        assertFalse(successor.runExclusively("test.handover", runs::incrementAndGet));
+
+        TimeUnit.MILLISECONDS.sleep(2500);
+
+        assertTrue(successor.runExclusively("test.handover", runs::incrementAndGet));
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void deleteNotPaidOrders_AllInstancesAtOnce_ShouldSweepOnceAndRestoreStockOnce() throws Exception {
+        ConfigurableApplicationContext first = instances.get(0);
+        UUID laptopId = first.getBean(LaptopService.class).createLaptop(new LaptopRequestDto(
+                "Lenovo", "ThinkPad X1", "Intel Core i7-1365U", 32, new BigDecimal("1900.00"), 10)).laptopId();
+        OrderService orderService = first.getBean(OrderService.class);
+        List<UUID> orderIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            orderIds.add(orderService.placeOrder(new OrderRequestDto(
+                    UUID.randomUUID(), Set.of(new OrderItemDto(laptopId, 2)))).orderId());
+        }
+        first.getBean(JdbcTemplate.class).update("update orders set timestamp = ?",
+                LocalDateTime.now().minusHours(1));
+
+        onAllInstances(instance -> {
+            instance.getBean(OrderService.class).deleteNotPaidOrders();
+            return null;
+        });
+
+        assertEquals(10, first.getBean(LaptopRepository.class).findById(laptopId).orElseThrow().getQuantity());
+        assertTrue(first.getBean(OrderRepository.class).findAllById(orderIds).isEmpty());
+        assertEquals(1, instances.stream().filter(instance -> sweeps(instance) == 1).count());
+        assertEquals(1, instances.stream().mapToLong(SchedulerLeasesIntegrationTest::sweeps).sum());
+    }
+
+    private static long sweeps(ConfigurableApplicationContext instance) {
+        return instance.getBean(MeterRegistry.class).get("orders.operation")
+                .tag("method", "deleteNotPaidOrders")
+                .tag("outcome", "success")
+                .timer()
+                .count();
+    }
+
+    private static <T> List<T> onAllInstances(InstanceTask<T> task) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<T>> futures = new ArrayList<>();
+        for (ConfigurableApplicationContext instance : instances) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return task.run(instance);
+            }));
+        }
+        start.countDown();
+
+        List<T> results = new ArrayList<>();
+        for (Future<T> future : futures) {
+            results.add(future.get(30, TimeUnit.SECONDS));
+        }
+        return results;
+    }
+
+    @FunctionalInterface
+    private interface InstanceTask<T> {
+        T run(ConfigurableApplicationContext instance) throws Exception;
+    }
+}
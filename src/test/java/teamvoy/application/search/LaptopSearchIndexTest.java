@@ -0,0 +1,150 @@
+package teamvoy.application.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.UUID;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+import teamvoy.application.dto.laptop.request.LaptopSearchRequestDto;
+import teamvoy.application.entity.Laptop;
+
+public class LaptopSearchIndexTest {
+    private static final long SEED = 20241018L;
+    private static final int LAPTOPS = 20_000;
+    private static final int QUERIES = 500;
+    private static final List<String> BRANDS = List.of("Lenovo", "Apple", "HP");
+    private static final List<String> PROCESSORS = List.of(
+            "Intel Core i5-1345U", "Intel Core i7-1365U", "Apple M3", "AMD Ryzen 7 7840U");
+    private static final List<Integer> RAMS = List.of(8, 16, 32, 64);
+
+    @Test
+    public void search_RandomQueries_ShouldMatchFilteringAndSortingTheWholeCatalog() {
+        Random random = new Random(SEED);
+        LaptopSearchIndex index = new LaptopSearchIndex();
+        List<Laptop> catalog = new ArrayList<>(LAPTOPS);
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+        for (int i = 0; i < LAPTOPS; i++) {
+            catalog.add(createLaptop(
+                    BRANDS.get(random.nextInt(BRANDS.size())),
+                    PROCESSORS.get(random.nextInt(PROCESSORS.size())),
+                    RAMS.get(random.nextInt(RAMS.size())),
+                    BigDecimal.valueOf(50_000 + random.nextInt(300_000), 2),
+                    createdAt.plusSeconds(random.nextInt(LAPTOPS))));
+        }
+        for (int from = 0; from < LAPTOPS; from += 5_000) {
+            index.addAll(catalog.subList(from, from + 5_000));
+        }
+
+        for (int i = 0; i < QUERIES; i++) {
+            LaptopSearchRequestDto criteria = new LaptopSearchRequestDto(
+                    random.nextBoolean() ? BRANDS.get(random.nextInt(BRANDS.size())).toUpperCase() : null,
+                    random.nextInt(3) == 0 ? PROCESSORS.get(random.nextInt(PROCESSORS.size())) : null,
+                    random.nextInt(3) == 0 ? RAMS.get(random.nextInt(RAMS.size())) : null,
+                    random.nextBoolean() ? BigDecimal.valueOf(50_000 + random.nextInt(300_000), 2) : null,
+                    random.nextBoolean() ? BigDecimal.valueOf(50_000 + random.nextInt(300_000), 3) : null);
+            Sort sort = switch (random.nextInt(5)) {
+                case 0 -> Sort.by(Sort.Direction.ASC, LaptopSearchIndex.SORT_BY_PRICE);
+                case 1 -> Sort.by(Sort.Direction.DESC, LaptopSearchIndex.SORT_BY_PRICE);
+                case 2 -> Sort.by(Sort.Direction.ASC, LaptopSearchIndex.SORT_BY_CREATED_AT);
+                case 3 -> Sort.by(Sort.Direction.DESC, LaptopSearchIndex.SORT_BY_CREATED_AT);
+                default -> Sort.unsorted();
+            };
+            Pageable pageable = PageRequest.of(random.nextInt(4), 1 + random.nextInt(50), sort);
+
+            assertEquals(searchCatalog(catalog, criteria, pageable), index.search(criteria, pageable),
+                    "query " + i + ": " + criteria + ", " + pageable);
+        }
+    }
+
+    @Test
+    public void addAll_AlreadyIndexedLaptop_ShouldNotIndexItTwice() {
+        LaptopSearchIndex index = new LaptopSearchIndex();
+        Laptop laptop = createLaptop("Lenovo", "Intel Core i7-1365U", 32,
+                new BigDecimal("1900.00"), LocalDateTime.now());
+
+        assertEquals(1, index.addAll(List.of(laptop)));
+        assertEquals(0, index.addAll(List.of(laptop)));
+
+        assertEquals(1, index.size());
+        assertEquals(Optional.of(laptop.getCreatedAt()), index.getLatestCreatedAt());
+        assertEquals(List.of(laptop.getLaptopId()), index.search(
+                new LaptopSearchRequestDto("lenovo", null, null, null, null), PageRequest.of(0, 10)));
+    }
+
+    @Test
+    public void search_UnknownAttributeValue_ShouldReturnEmptyList() {
+        LaptopSearchIndex index = new LaptopSearchIndex();
+        index.addAll(List.of(createLaptop("Lenovo", "Intel Core i7-1365U", 32,
+                new BigDecimal("1900.00"), LocalDateTime.now())));
+
+        assertTrue(index.search(new LaptopSearchRequestDto("Dell", null, null, null, null),
+                PageRequest.of(0, 10)).isEmpty());
+    }
+
+    @Test
+    public void search_UnsupportedSort_ShouldThrowBadRequest() {
+        LaptopSearchIndex index = new LaptopSearchIndex();
+
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class, () -> index.search(
+                new LaptopSearchRequestDto(null, null, null, null, null),
+                PageRequest.of(0, 10, Sort.by("brand"))));
+
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+    }
+
+    private List<UUID> searchCatalog(List<Laptop> catalog, LaptopSearchRequestDto criteria, Pageable pageable) {
+        Predicate<Laptop> matches = laptop ->
+                (criteria.brand() == null || laptop.getBrand().equalsIgnoreCase(criteria.brand()))
+                        && (criteria.processor() == null || laptop.getProcessor().equalsIgnoreCase(criteria.processor()))
+                        && (criteria.ram() == null || laptop.getRam().equals(criteria.ram()))
+                        && (criteria.minPrice() == null || laptop.getPrice().compareTo(criteria.minPrice()) >= 0)
+                        && (criteria.maxPrice() == null || laptop.getPrice().compareTo(criteria.maxPrice()) <= 0);
+
+        Sort.Order order = pageable.getSort().stream()
+                .findFirst()
+                .orElse(Sort.Order.asc(LaptopSearchIndex.SORT_BY_CREATED_AT));
+        Comparator<Integer> comparator = LaptopSearchIndex.SORT_BY_PRICE.equals(order.getProperty())
+                ? Comparator.comparing(i -> catalog.get(i).getPrice())
+                : Comparator.comparing(i -> catalog.get(i).getCreatedAt());
+        comparator = comparator.thenComparingInt(i -> i);
+
+        return IntStream.range(0, catalog.size())
+                .filter(i -> matches.test(catalog.get(i)))
+                .boxed()
+                .sorted(order.isDescending() ? comparator.reversed() : comparator)
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .map(i -> catalog.get(i).getLaptopId())
+                .toList();
+    }
+
+    private Laptop createLaptop(String brand, String processor, int ram, BigDecimal price, LocalDateTime createdAt) {
+        Laptop laptop = new Laptop();
+        laptop.setLaptopId(UUID.randomUUID());
+        laptop.setBrand(brand);
+        laptop.setModel("Model");
+        laptop.setProcessor(processor);
+        laptop.setRam(ram);
+        laptop.setPrice(price);
+        laptop.setQuantity(10);
+        laptop.setCreatedAt(createdAt);
+
+        return laptop;
+    }
+}
@@ -2,29 +2,64 @@ package teamvoy.application.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyList;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+import teamvoy.application.cache.LaptopCatalogCache;
+import teamvoy.application.config.CatalogCacheProperties;
+import teamvoy.application.config.LaptopImportProperties;
+import teamvoy.application.config.LaptopSearchProperties;
+import teamvoy.application.dto.laptop.request.LaptopCursor;
 import teamvoy.application.dto.laptop.request.LaptopRequestDto;
+import teamvoy.application.dto.laptop.request.LaptopSearchRequestDto;
+import teamvoy.application.dto.laptop.response.LaptopCursorPageDto;
+import teamvoy.application.dto.laptop.response.LaptopImportProgressDto;
 import teamvoy.application.dto.laptop.response.LaptopResponseDto;
 import teamvoy.application.entity.Laptop;
+import teamvoy.application.event.StockChangedEvent;
+import teamvoy.application.exception.LaptopImportException;
 import teamvoy.application.mapper.LaptopMapper;
 import teamvoy.application.repo.LaptopRepository;
+import teamvoy.application.search.LaptopSearchIndex;
 import teamvoy.application.service.impl.LaptopServiceImpl;
 
 @ExtendWith(MockitoExtension.class)
@@ -35,9 +70,34 @@ public class LaptopServiceTest {
     @Mock
     private LaptopMapper laptopMapper;
 
-    @InjectMocks
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private Validator validator;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private LaptopCatalogCache laptopCatalogCache;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private LaptopSearchIndex laptopSearchIndex;
+
     private LaptopServiceImpl laptopService;
 
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        laptopCatalogCache = new LaptopCatalogCache(
+                new CatalogCacheProperties(100, 100, Duration.ofMinutes(5)), laptopMapper, meterRegistry);
+        laptopSearchIndex = new LaptopSearchIndex();
+        laptopService = new LaptopServiceImpl(laptopRepository, laptopMapper, laptopCatalogCache, laptopSearchIndex,
+                new LaptopImportProperties(2), new LaptopSearchProperties(Duration.ofSeconds(10), Duration.ofMinutes(1)),
+                transactionTemplate, validator, entityManager);
+    }
+
     @Test
     void createLaptop_AllOk_ShouldReturnCorrectDto() {
         LaptopRequestDto laptopRequestDto = new LaptopRequestDto(
@@ -71,6 +131,7 @@ public class LaptopServiceTest {
         );
 
 
+        when(laptopMapper.toEntity(laptopRequestDto)).thenReturn(new Laptop());
         when(laptopRepository.save(any(Laptop.class))).thenReturn(savedLaptop);
         when(laptopMapper.toDto(savedLaptop)).thenReturn(expected);
 
@@ -145,4 +206,277 @@ public class LaptopServiceTest {
         verify(laptopMapper, times(1)).toDto(laptop1);
         verify(laptopMapper, times(1)).toDto(laptop2);
     }
+
+    @Test
+    void getAllAfterCursor_MoreLaptopsLeft_ShouldReturnPageWithNextCursor() {
+        Laptop laptop1 = new Laptop();
+        laptop1.setLaptopId(UUID.randomUUID());
+        laptop1.setQuantity(3);
+        laptop1.setCreatedAt(LocalDateTime.now().minusDays(2));
+
+        Laptop laptop2 = new Laptop();
+        laptop2.setLaptopId(UUID.randomUUID());
+        laptop2.setQuantity(4);
+        laptop2.setCreatedAt(LocalDateTime.now().minusDays(1));
+
+        LaptopCursor after = new LaptopCursor(LocalDateTime.now().minusDays(3), UUID.randomUUID());
+
+        when(laptopRepository.findAllAfter(after.createdAt(), after.laptopId(), Limit.of(2)))
+                .thenReturn(List.of(laptop1, laptop2));
+        when(laptopMapper.toDto(any(Laptop.class))).thenAnswer(invocation -> toDto(invocation.getArgument(0)));
+
+        LaptopCursorPageDto result = laptopService.getAll(after.encode(), 1);
+
+        assertEquals(1, result.laptops().size());
+        assertEquals(new LaptopCursor(laptop1.getCreatedAt(), laptop1.getLaptopId()),
+                LaptopCursor.decode(result.nextCursor()));
+
+        verify(laptopRepository, never()).count();
+    }
+
+    @Test
+    void getAllAfterCursor_LastPage_ShouldReturnNullNextCursor() {
+        Laptop laptop = new Laptop();
+        laptop.setLaptopId(UUID.randomUUID());
+        laptop.setQuantity(5);
+        laptop.setCreatedAt(LocalDateTime.now());
+
+        when(laptopRepository.findAllByOrderByCreatedAtAscLaptopIdAsc(Limit.of(11)))
+                .thenReturn(List.of(laptop));
+        when(laptopMapper.toDto(any(Laptop.class))).thenAnswer(invocation -> toDto(invocation.getArgument(0)));
+
+        LaptopCursorPageDto result = laptopService.getAll(null, 10);
+
+        assertEquals(1, result.laptops().size());
+        assertNull(result.nextCursor());
+    }
+
+    @Test
+    void getAllAfterCursor_MalformedCursor_ShouldThrowBadRequest() {
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+                () -> laptopService.getAll("not-a-cursor", 10));
+
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+        verifyNoInteractions(laptopRepository);
+    }
+
+    @Test
+    void getAllAfterCursor_NonPositiveLimit_ShouldThrowBadRequest() {
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+                () -> laptopService.getAll(null, 0));
+
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+        verifyNoInteractions(laptopRepository);
+    }
+
+    @Test
+    void getAll_RepeatedPage_ShouldBeServedFromCacheWithLiveStock() {
+        Pageable pageable = mock(Pageable.class);
+
+        Laptop laptop = new Laptop();
+        laptop.setLaptopId(UUID.randomUUID());
+        laptop.setQuantity(10);
+
+        LaptopResponseDto responseDto = new LaptopResponseDto(
+                laptop.getLaptopId(), "Asus", "Zenbook 14", "Intel Core Ultra 7", 16,
+                new BigDecimal("1300.00"), 10, LocalDateTime.now());
+
+        when(laptopRepository.findAll(pageable)).thenReturn(new PageImpl<>(List.of(laptop)));
+        when(laptopMapper.toDto(laptop)).thenReturn(responseDto);
+
+        laptopService.getAll(pageable);
+        laptopCatalogCache.onStockChanged(new StockChangedEvent(Map.of(laptop.getLaptopId(), -3)));
+        List<LaptopResponseDto> result = laptopService.getAll(pageable);
+
+        assertEquals(1, result.size());
+        assertEquals(7, result.get(0).quantity());
+        assertEquals(responseDto.brand(), result.get(0).brand());
+        assertEquals(1, laptopCatalogCache.pageStats().hitCount());
+        assertEquals(1, meterRegistry.get("cache.gets").tags("cache", "catalog.pages", "result", "hit")
+                .functionCounter().count());
+        assertEquals(1, meterRegistry.get("cache.gets").tags("cache", "catalog.pages", "result", "miss")
+                .functionCounter().count());
+
+        verify(laptopRepository, times(1)).findAll(pageable);
+        verify(laptopMapper, times(1)).toDto(laptop);
+    }
+
+    @Test
+    void search_MatchingLaptops_ShouldReturnThemInIndexOrder() {
+        Laptop cheap = toEntity(new LaptopRequestDto(
+                "Lenovo", "IdeaPad 5", "AMD Ryzen 5", 16, new BigDecimal("700.00"), 3));
+        Laptop expensive = toEntity(new LaptopRequestDto(
+                "Lenovo", "ThinkPad X1", "Intel Core i7-1365U", 32, new BigDecimal("1900.00"), 2));
+        Laptop otherBrand = toEntity(new LaptopRequestDto(
+                "Dell", "XPS 13", "Intel Core i7-1360P", 16, new BigDecimal("1500.00"), 4));
+        laptopSearchIndex.addAll(List.of(cheap, expensive, otherBrand));
+        PageRequest pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "price"));
+
+        when(laptopRepository.findAllById(List.of(expensive.getLaptopId(), cheap.getLaptopId())))
+                .thenReturn(List.of(cheap, expensive));
+        when(laptopMapper.toDto(any(Laptop.class))).thenAnswer(invocation -> toDto(invocation.getArgument(0)));
+
+        List<LaptopResponseDto> result = laptopService.search(
+                new LaptopSearchRequestDto("lenovo", null, null, null, null), pageable);
+
+        assertEquals(List.of(expensive.getLaptopId(), cheap.getLaptopId()),
+                result.stream().map(LaptopResponseDto::laptopId).toList());
+    }
+
+    @Test
+    void importLaptops_SeveralChunks_ShouldSaveEachChunkAndReportProgress() {
+        LaptopRequestDto requestDto = new LaptopRequestDto(
+                "Acer", "Swift Go 14", "Intel Core Ultra 5", 16, BigDecimal.valueOf(900), 7);
+        List<LaptopImportProgressDto> progress = new ArrayList<>();
+
+        when(laptopMapper.toEntity(requestDto)).thenAnswer(invocation -> toEntity(requestDto));
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        long imported = laptopService.importLaptops(
+                List.of(requestDto, requestDto, requestDto, requestDto, requestDto).iterator(), progress::add);
+
+        assertEquals(5, imported);
+        assertEquals(List.of(
+                new LaptopImportProgressDto(1, 2, 2),
+                new LaptopImportProgressDto(2, 2, 4),
+                new LaptopImportProgressDto(3, 1, 5)), progress);
+        assertEquals(5, laptopSearchIndex.size());
+
+        verify(laptopRepository, times(3)).saveAll(anyList());
+        verify(validator, times(5)).validate(requestDto);
+    }
+
+    @Test
+    void importLaptops_InvalidRecord_ShouldThrowLaptopImportException() {
+        LaptopRequestDto requestDto = new LaptopRequestDto(
+                "", "Swift Go 14", "Intel Core Ultra 5", 16, BigDecimal.valueOf(900), 7);
+        ConstraintViolation<LaptopRequestDto> violation = mock();
+
+        when(validator.validate(requestDto)).thenReturn(Set.of(violation));
+
+        LaptopImportException exception = assertThrows(LaptopImportException.class, () ->
+                laptopService.importLaptops(List.of(requestDto).iterator(), progress -> { }));
+
+        assertEquals(0, exception.getRecord());
+        assertEquals(0, exception.getImported());
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+
+        verify(laptopRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void importLaptops_InvalidRecordInLaterChunk_ShouldKeepEarlierChunksAndReportPosition() {
+        LaptopRequestDto requestDto = new LaptopRequestDto(
+                "Acer", "Swift Go 14", "Intel Core Ultra 5", 16, BigDecimal.valueOf(900), 7);
+        LaptopRequestDto invalidRequestDto = new LaptopRequestDto(
+                "", "Swift Go 14", "Intel Core Ultra 5", 16, BigDecimal.valueOf(900), 7);
+        ConstraintViolation<LaptopRequestDto> violation = mock();
+        List<LaptopImportProgressDto> progress = new ArrayList<>();
+
+        when(validator.validate(requestDto)).thenReturn(Set.of());
+        when(validator.validate(invalidRequestDto)).thenReturn(Set.of(violation));
+        when(laptopMapper.toEntity(requestDto)).thenAnswer(invocation -> toEntity(requestDto));
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        LaptopImportException exception = assertThrows(LaptopImportException.class, () ->
+                laptopService.importLaptops(
+                        List.of(requestDto, requestDto, requestDto, invalidRequestDto).iterator(), progress::add));
+
+        assertEquals(3, exception.getRecord());
+        assertEquals(2, exception.getImported());
+        assertEquals(List.of(new LaptopImportProgressDto(1, 2, 2)), progress);
+        assertEquals(2, laptopSearchIndex.size());
+
+        verify(laptopRepository, times(1)).saveAll(anyList());
+    }
+
+    @Test
+    void exportLaptops_AllOk_ShouldStreamAndDetachEveryLaptop() {
+        Laptop laptop1 = new Laptop();
+        laptop1.setLaptopId(UUID.randomUUID());
+        Laptop laptop2 = new Laptop();
+        laptop2.setLaptopId(UUID.randomUUID());
+        List<LaptopResponseDto> exported = new ArrayList<>();
+
+        when(laptopRepository.streamAllByOrderByCreatedAtAscLaptopIdAsc()).thenReturn(Stream.of(laptop1, laptop2));
+        when(laptopMapper.toDto(any(Laptop.class))).thenAnswer(invocation -> toDto(invocation.getArgument(0)));
+
+        laptopService.exportLaptops(exported::add);
+
+        assertEquals(List.of(toDto(laptop1), toDto(laptop2)), exported);
+
+        verify(entityManager).detach(laptop1);
+        verify(entityManager).detach(laptop2);
+    }
+
+    @Test
+    void catchUpSearchIndex_LaptopsCreatedElsewhere_ShouldIndexThemFromOverlapWindow() {
+        LocalDateTime createdAt = LocalDateTime.now();
+        Laptop indexed = createLaptop(createdAt);
+        Laptop created = createLaptop(createdAt.plusSeconds(5));
+
+        when(laptopRepository.streamAllByOrderByCreatedAtAscLaptopIdAsc()).thenReturn(Stream.of(indexed));
+        when(laptopRepository.findAllAfter(createdAt.minusMinutes(1), new UUID(0, 0), Limit.of(10_000)))
+                .thenReturn(List.of(indexed, created));
+
+        laptopService.buildSearchIndex();
+        laptopService.catchUpSearchIndex();
+
+        assertEquals(2, laptopSearchIndex.size());
+        assertEquals(Optional.of(created.getCreatedAt()), laptopSearchIndex.getLatestCreatedAt());
+        verify(entityManager).detach(created);
+    }
+
+    @Test
+    void catchUpSearchIndex_IndexNotBuiltYet_ShouldNotQueryLaptops() {
+        laptopService.catchUpSearchIndex();
+
+        verifyNoInteractions(laptopRepository);
+    }
+
+    private Laptop createLaptop(LocalDateTime createdAt) {
+        Laptop laptop = new Laptop();
+        laptop.setLaptopId(UUID.randomUUID());
+        laptop.setBrand("Acer");
+        laptop.setModel("Swift Go 14");
+        laptop.setProcessor("Intel Core Ultra 5");
+        laptop.setRam(16);
+        laptop.setPrice(BigDecimal.valueOf(900));
+        laptop.setQuantity(7);
+        laptop.setCreatedAt(createdAt);
+        return laptop;
+    }
+
+    private Laptop toEntity(LaptopRequestDto requestDto) {
+        Laptop laptop = new Laptop();
+        laptop.setLaptopId(UUID.randomUUID());
+        laptop.setBrand(requestDto.brand());
+        laptop.setModel(requestDto.model());
+        laptop.setProcessor(requestDto.processor());
+        laptop.setRam(requestDto.ram());
+        laptop.setPrice(requestDto.price());
+        laptop.setQuantity(requestDto.quantity());
+        laptop.setCreatedAt(LocalDateTime.now());
+
+        return laptop;
+    }
+
+    private LaptopResponseDto toDto(Laptop laptop) {
+        return new LaptopResponseDto(
+                laptop.getLaptopId(),
+                laptop.getBrand(),
+                laptop.getModel(),
+                laptop.getProcessor(),
+                laptop.getRam(),
+                laptop.getPrice(),
+                laptop.getQuantity(),
+                laptop.getCreatedAt()
+        );
+    }
 }
@@ -0,0 +1,325 @@
+package teamvoy.application.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.server.ResponseStatusException;
+import teamvoy.application.cache.OrderIdempotencyCache;
+import teamvoy.application.dto.order.event.OrderEvent;
+import teamvoy.application.dto.order.event.OrderEventBatch;
+import teamvoy.application.dto.order.event.OrderEventItem;
+import teamvoy.application.dto.order.request.OrderItemDto;
+import teamvoy.application.dto.order.request.OrderRequestDto;
+import teamvoy.application.dto.order.response.OrderResponseDto;
+import teamvoy.application.dto.report.response.SalesBucketDto;
+import teamvoy.application.entity.Laptop;
+import teamvoy.application.entity.enums.OrderEventType;
+import teamvoy.application.entity.enums.OrderStatus;
+import teamvoy.application.entity.enums.SalesGranularity;
+import teamvoy.application.entity.enums.PaymentOutcome;
+import teamvoy.application.entity.enums.SubmissionStatus;
+import teamvoy.application.outbox.OrderEventJournal;
+import teamvoy.application.outbox.OutboxRelay;
+import teamvoy.application.repo.LaptopRepository;
+import teamvoy.application.repo.OrderRepository;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class OrderServiceIntegrationTest {
+    private static final int STOCK = 50;
+    private static final int BUYERS = 400;
+    private static final int THREADS = 32;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private LaptopRepository laptopRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private OrderEventJournal orderEventJournal;
+
+    @Autowired
+    private SalesReportService salesReportService;
+
+    @Test
+    void placeOrder_ConcurrentBuyersOfSameLaptop_ShouldNotOversell() throws InterruptedException {
+        UUID laptopId = createLaptop(STOCK);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger placed = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+
+        for (int i = 0; i < BUYERS; i++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    orderService.placeOrder(new OrderRequestDto(
+                            UUID.randomUUID(), Set.of(new OrderItemDto(laptopId, 1))));
+                    placed.incrementAndGet();
+                } catch (IllegalArgumentException e) {
+                    rejected.incrementAndGet();
+                } catch (Exception e) {
+                    failed.incrementAndGet();
+                }
+            });
+        }
+
+        start.countDown();
+        executor.shutdown();
+
+        assertTrue(executor.awaitTermination(60, TimeUnit.SECONDS));
+        assertEquals(0, failed.get());
+        assertEquals(STOCK, placed.get());
+        assertEquals(BUYERS - STOCK, rejected.get());
+        assertEquals(0, laptopRepository.findById(laptopId).orElseThrow().getQuantity());
+    }
+
+    @Test
+    void deleteNotPaidOrders_ExpiredOrders_ShouldRestoreStockAndDeleteOrders() {
+        UUID laptopId1 = createLaptop(10);
+        UUID laptopId2 = createLaptop(10);
+
+        OrderResponseDto expiredOrder1 = orderService.placeOrder(new OrderRequestDto(UUID.randomUUID(),
+                Set.of(new OrderItemDto(laptopId1, 2), new OrderItemDto(laptopId2, 3))));
+        OrderResponseDto expiredOrder2 = orderService.placeOrder(new OrderRequestDto(UUID.randomUUID(),
+                Set.of(new OrderItemDto(laptopId1, 4))));
+        OrderResponseDto activeOrder = orderService.placeOrder(new OrderRequestDto(UUID.randomUUID(),
+                Set.of(new OrderItemDto(laptopId2, 1))));
+
+        jdbcTemplate.update("update orders set timestamp = ? where order_id in (?, ?)",
+                LocalDateTime.now().minusHours(1), expiredOrder1.orderId(), expiredOrder2.orderId());
+
+        orderService.deleteNotPaidOrders();
+
+        assertEquals(10, laptopRepository.findById(laptopId1).orElseThrow().getQuantity());
+        assertEquals(9, laptopRepository.findById(laptopId2).orElseThrow().getQuantity());
+        assertFalse(orderRepository.existsById(expiredOrder1.orderId()));
+        assertFalse(orderRepository.existsById(expiredOrder2.orderId()));
+        assertTrue(orderRepository.existsById(activeOrder.orderId()));
+    }
+
+    @Test
+    void placeOrder_IdempotencyKey_ShouldStoreKeyThatOutlivesOrder() {
+        UUID laptopId = createLaptop(10);
+        String idempotencyKey = UUID.randomUUID().toString();
+        OrderRequestDto requestDto = new OrderRequestDto(UUID.randomUUID(), Set.of(new OrderItemDto(laptopId, 1)));
+
+        OrderResponseDto order = orderService.placeOrder(requestDto, idempotencyKey);
+
+        assertEquals(order, orderService.placeOrder(requestDto, idempotencyKey));
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class, () ->
+                orderService.placeOrder(new OrderRequestDto(requestDto.userId(),
+                        Set.of(new OrderItemDto(laptopId, 2))), idempotencyKey));
+        assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, exception.getStatusCode());
+        assertEquals(9, laptopRepository.findById(laptopId).orElseThrow().getQuantity());
+
+        jdbcTemplate.update("update orders set timestamp = ? where order_id = ?",
+                LocalDateTime.now().minusHours(1), order.orderId());
+        orderService.deleteNotPaidOrders();
+
+        assertEquals(order.orderId(), jdbcTemplate.queryForObject(
+                "select order_id from order_idempotency_keys where idempotency_key = ?", UUID.class, idempotencyKey));
+    }
+
+    @Test
+    void placeOrder_IdempotencyKeyStoredByAnotherInstance_ShouldReplayOrderUntilItExpires() {
+        UUID laptopId = createLaptop(10);
+        OrderRequestDto requestDto = new OrderRequestDto(UUID.randomUUID(), Set.of(new OrderItemDto(laptopId, 1)));
+        OrderResponseDto order = orderService.placeOrder(requestDto);
+        String replayedKey = storeIdempotencyKey(requestDto, order.orderId());
+        String expiredKey = storeIdempotencyKey(requestDto, order.orderId());
+
+        assertEquals(order.orderId(), orderService.placeOrder(requestDto, replayedKey).orderId());
+
+        jdbcTemplate.update("update orders set timestamp = ? where order_id = ?",
+                LocalDateTime.now().minusHours(1), order.orderId());
+        orderService.deleteNotPaidOrders();
+
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class, () ->
+                orderService.placeOrder(requestDto, expiredKey));
+        assertEquals(HttpStatus.GONE, exception.getStatusCode());
+        assertEquals(10, laptopRepository.findById(laptopId).orElseThrow().getQuantity());
+    }
+
+    @Test
+    void markOrderAsPaid_EachOrderState_ShouldReturnMatchingOutcome() {
+        UUID laptopId = createLaptop(10);
+
+        OrderResponseDto order = orderService.placeOrder(new OrderRequestDto(UUID.randomUUID(),
+                Set.of(new OrderItemDto(laptopId, 1))));
+        OrderResponseDto expiredOrder = orderService.placeOrder(new OrderRequestDto(UUID.randomUUID(),
+                Set.of(new OrderItemDto(laptopId, 2))));
+
+        jdbcTemplate.update("update orders set timestamp = ? where order_id = ?",
+                LocalDateTime.now().minusHours(1), expiredOrder.orderId());
+
+        assertEquals(PaymentOutcome.PAID, orderService.markOrderAsPaid(order.orderId()));
+        assertEquals(PaymentOutcome.ALREADY_PAID, orderService.markOrderAsPaid(order.orderId()));
+        assertEquals(PaymentOutcome.EXPIRED, orderService.markOrderAsPaid(expiredOrder.orderId()));
+        assertEquals(PaymentOutcome.NOT_FOUND, orderService.markOrderAsPaid(UUID.randomUUID()));
+        assertEquals(OrderStatus.PAID, orderRepository.findOrderStatusById(order.orderId()).orElseThrow());
+        assertEquals(OrderStatus.PENDING, orderRepository.findOrderStatusById(expiredOrder.orderId()).orElseThrow());
+    }
+
+    @Test
+    void markOrderAsPaid_ExpiredOrderDeleted_ShouldReturnExpired() {
+        UUID laptopId = createLaptop(10);
+
+        OrderResponseDto expiredOrder = orderService.placeOrder(new OrderRequestDto(UUID.randomUUID(),
+                Set.of(new OrderItemDto(laptopId, 2))));
+        jdbcTemplate.update("update orders set timestamp = ? where order_id = ?",
+                LocalDateTime.now().minusHours(1), expiredOrder.orderId());
+        orderService.deleteNotPaidOrders();
+
+        assertTrue(orderRepository.findOrderStatusById(expiredOrder.orderId()).isEmpty());
+        assertEquals(PaymentOutcome.EXPIRED, orderService.markOrderAsPaid(expiredOrder.orderId()));
+        assertEquals(10, laptopRepository.findById(laptopId).orElseThrow().getQuantity());
+    }
+
+    @Test
+    void placeOrder_PaidAndExpiredOrders_ShouldRelayEventsToJournal() throws InterruptedException {
+        UUID laptopId = createLaptop(10);
+        long offset = orderEventJournal.endOffset();
+
+        OrderResponseDto paidOrder = orderService.placeOrder(new OrderRequestDto(UUID.randomUUID(),
+                Set.of(new OrderItemDto(laptopId, 1))));
+        OrderResponseDto expiredOrder = orderService.placeOrder(new OrderRequestDto(UUID.randomUUID(),
+                Set.of(new OrderItemDto(laptopId, 2))));
+        orderService.markOrderAsPaid(paidOrder.orderId());
+        jdbcTemplate.update("update orders set timestamp = ? where order_id = ?",
+                LocalDateTime.now().minusHours(1), expiredOrder.orderId());
+        orderService.deleteNotPaidOrders();
+
+        Set<UUID> orderIds = Set.of(paidOrder.orderId(), expiredOrder.orderId());
+        List<OrderEvent> events = new ArrayList<>();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (events.size() < 4 && System.nanoTime() < deadline) {
+            outboxRelay.relay();
+            OrderEventBatch batch = orderEventJournal.read(offset, 1000);
+            batch.events().stream().filter(event -> orderIds.contains(event.orderId())).forEach(events::add);
+            offset = batch.nextOffset();
+            TimeUnit.MILLISECONDS.sleep(50);
+        }
+
+        assertEquals(List.of(OrderEventType.PLACED, OrderEventType.PLACED, OrderEventType.PAID, OrderEventType.EXPIRED),
+                events.stream().map(OrderEvent::type).toList());
+        assertEquals(List.of(paidOrder.orderId(), expiredOrder.orderId(), paidOrder.orderId(), expiredOrder.orderId()),
+                events.stream().map(OrderEvent::orderId).toList());
+        assertEquals(List.of(new OrderEventItem(laptopId, 2, new BigDecimal("3800.00"))), events.get(3).items());
+    }
+
+    @Test
+    void placeOrder_PaidAndExpiredOrders_ShouldAddUpInSalesReport() throws InterruptedException {
+        UUID laptopId = createLaptop(10);
+        LocalDateTime from = LocalDateTime.now().minusHours(1);
+
+        OrderResponseDto paidOrder = orderService.placeOrder(new OrderRequestDto(UUID.randomUUID(),
+                Set.of(new OrderItemDto(laptopId, 1))));
+        orderService.placeOrder(new OrderRequestDto(UUID.randomUUID(), Set.of(new OrderItemDto(laptopId, 3))));
+        OrderResponseDto expiredOrder = orderService.placeOrder(new OrderRequestDto(UUID.randomUUID(),
+                Set.of(new OrderItemDto(laptopId, 2))));
+        orderService.markOrderAsPaid(paidOrder.orderId());
+        jdbcTemplate.update("update orders set timestamp = ? where order_id = ?",
+                LocalDateTime.now().minusHours(1), expiredOrder.orderId());
+        orderService.deleteNotPaidOrders();
+
+        List<SalesBucketDto> buckets = List.of();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (buckets.stream().mapToLong(SalesBucketDto::unitsExpired).sum() == 0 && System.nanoTime() < deadline) {
+            outboxRelay.relay();
+            buckets = salesReportService.getSalesReport(from, LocalDateTime.now().plusHours(1), SalesGranularity.DAY)
+                    .stream()
+                    .filter(bucket -> bucket.laptopId().equals(laptopId))
+                    .toList();
+            TimeUnit.MILLISECONDS.sleep(50);
+        }
+
+        assertEquals(6, buckets.stream().mapToLong(SalesBucketDto::unitsPlaced).sum());
+        assertEquals(1, buckets.stream().mapToLong(SalesBucketDto::unitsSold).sum());
+        assertEquals(new BigDecimal("1900.00"), buckets.stream()
+                .map(SalesBucketDto::revenue)
+                .reduce(BigDecimal.ZERO, BigDecimal::add));
+        assertEquals(2, buckets.stream().mapToLong(SalesBucketDto::unitsExpired).sum());
+    }
+
+    @Test
+    void submitOrder_MoreSubmissionsThanStock_ShouldPlaceOnlyWhatIsInStock() throws InterruptedException {
+        UUID laptopId = createLaptop(STOCK);
+
+        List<UUID> orderIds = IntStream.range(0, STOCK * 2)
+                .mapToObj(i -> orderService.submitOrder(new OrderRequestDto(
+                        UUID.randomUUID(), Set.of(new OrderItemDto(laptopId, 1)))).orderId())
+                .toList();
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (orderIds.stream().anyMatch(orderId ->
+                orderService.getSubmission(orderId).status() == SubmissionStatus.QUEUED)) {
+            assertTrue(System.nanoTime() < deadline);
+            Thread.sleep(50);
+        }
+
+        Map<SubmissionStatus, Long> statuses = orderIds.stream()
+                .collect(Collectors.groupingBy(orderId -> orderService.getSubmission(orderId).status(),
+                        Collectors.counting()));
+        assertEquals(Map.of(SubmissionStatus.PLACED, (long) STOCK, SubmissionStatus.REJECTED, (long) STOCK),
+                statuses);
+        assertEquals(0, laptopRepository.findById(laptopId).orElseThrow().getQuantity());
+        assertEquals(STOCK, orderIds.stream().filter(orderRepository::existsById).count());
+    }
+
+    private UUID createLaptop(int quantity) {
+        Laptop laptop = new Laptop();
+        laptop.setBrand("Lenovo");
+        laptop.setModel("ThinkPad X1");
+        laptop.setProcessor("Intel Core i7-1365U");
+        laptop.setRam(32);
+        laptop.setPrice(new BigDecimal("1900.00"));
+        laptop.setQuantity(quantity);
+        laptop.setCreatedAt(LocalDateTime.now());
+
+        return laptopRepository.save(laptop).getLaptopId();
+    }
+
+    private String storeIdempotencyKey(OrderRequestDto requestDto, UUID orderId) {
+        String idempotencyKey = UUID.randomUUID().toString();
+        jdbcTemplate.update("insert into order_idempotency_keys (idempotency_key, request_hash, order_id, created_at) "
+                + "values (?, ?, ?, ?)", idempotencyKey, OrderIdempotencyCache.requestHash(requestDto), orderId,
+                LocalDateTime.now());
+
+        return idempotencyKey;
+    }
+}
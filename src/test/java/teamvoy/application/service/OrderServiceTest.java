@@ -5,39 +5,87 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyInt;
 import static org.mockito.Mockito.anyList;
+import static org.mockito.Mockito.anyString;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
-import jakarta.persistence.EntityNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+import teamvoy.application.cache.OrderIdempotencyCache;
+import teamvoy.application.config.DataSourceRoutingProperties;
+import teamvoy.application.config.OrderExpiryProperties;
+import teamvoy.application.config.OrderIdempotencyProperties;
+import teamvoy.application.config.OrderSubmissionProperties;
+import teamvoy.application.config.StockRetryProperties;
+import teamvoy.application.datasource.PrimaryReads;
+import teamvoy.application.datasource.RecentWrites;
 import teamvoy.application.dto.order.request.OrderItemDto;
 import teamvoy.application.dto.order.request.OrderRequestDto;
+import teamvoy.application.dto.order.request.OrderSubmission;
 import teamvoy.application.dto.order.response.OrderItemResponseDto;
 import teamvoy.application.dto.order.response.OrderResponseDto;
+import teamvoy.application.dto.order.response.OrderSubmissionResponseDto;
+import teamvoy.application.dto.order.response.OrderSummaryResponseDto;
 import teamvoy.application.entity.Laptop;
 import teamvoy.application.entity.Order;
+import teamvoy.application.entity.OrderIdempotencyKey;
 import teamvoy.application.entity.OrderItem;
+import teamvoy.application.entity.enums.OrderEventType;
 import teamvoy.application.entity.enums.OrderStatus;
+import teamvoy.application.entity.enums.PaymentOutcome;
+import teamvoy.application.entity.enums.SubmissionStatus;
+import teamvoy.application.event.StockChangedEvent;
 import teamvoy.application.mapper.OrderMapper;
+import teamvoy.application.metrics.OrderMetrics;
+import teamvoy.application.outbox.OrderEventOutbox;
+import teamvoy.application.repo.ExpiredOrderRepository;
 import teamvoy.application.repo.LaptopRepository;
+import teamvoy.application.repo.OrderIdempotencyKeyRepository;
 import teamvoy.application.repo.OrderRepository;
+import teamvoy.application.repo.projection.LaptopQuantity;
+import teamvoy.application.repo.projection.OrderItemRow;
+import teamvoy.application.repo.projection.OrderSummary;
+import teamvoy.application.repo.projection.OrderTimestamp;
+import teamvoy.application.retry.OptimisticLockRetry;
+import teamvoy.application.scheduling.OrderExpiryQueue;
+import teamvoy.application.scheduling.OrderSubmissionQueue;
+import teamvoy.application.scheduling.SchedulerLeases;
 import teamvoy.application.service.impl.OrderServiceImpl;
 
 @ExtendWith(MockitoExtension.class)
@@ -51,7 +99,31 @@ public class OrderServiceTest {
     @Mock
     private OrderMapper orderMapper;
 
-    @InjectMocks
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private OrderExpiryQueue orderExpiryQueue;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private SchedulerLeases schedulerLeases;
+
+    @Mock
+    private OrderEventOutbox orderEventOutbox;
+
+    @Mock
+    private OrderIdempotencyKeyRepository orderIdempotencyKeyRepository;
+
+    @Mock
+    private ExpiredOrderRepository expiredOrderRepository;
+
+    private SimpleMeterRegistry meterRegistry;
     private OrderServiceImpl orderService;
 
     private UUID userId;
@@ -71,6 +143,9 @@ public class OrderServiceTest {
 
     @BeforeEach
     public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        orderService = createOrderService(500);
+
         userId = UUID.randomUUID();
         laptopId1 = UUID.randomUUID();
         laptopId2 = UUID.randomUUID();
@@ -109,6 +184,7 @@ public class OrderServiceTest {
                 LocalDateTime.now(), OrderStatus.PENDING);
 
         order = new Order();
+        order.setOrderId(UUID.randomUUID());
         order.setUserId(userId);
         order.setOrderStatus(OrderStatus.PENDING);
         order.setTimestamp(LocalDateTime.now());
@@ -142,9 +218,13 @@ public class OrderServiceTest {
 
     @Test
     public void placeOrder_AllOk_Success() {
+        mockTransactionTemplate();
         when(laptopRepository.findAllById(anyList()))
                 .thenReturn(Stream.of(laptop1, laptop2).collect(Collectors.toList()));
 
+        when(laptopRepository.decreaseQuantity(any(UUID.class), anyInt()))
+                .thenReturn(1);
+
         when(orderRepository.save(any(Order.class)))
                 .thenReturn(order);
 
@@ -158,65 +238,559 @@ public class OrderServiceTest {
 
         verify(laptopRepository, times(1)).findAllById(anyList());
         verify(orderRepository, times(1)).save(any(Order.class));
-        verify(laptopRepository, times(1)).saveAll(anyList());
+        verify(laptopRepository).decreaseQuantity(laptopId1, 2);
+        verify(laptopRepository).decreaseQuantity(laptopId2, 1);
+        verify(laptopRepository, never()).saveAll(anyList());
+        verify(eventPublisher).publishEvent(new StockChangedEvent(Map.of(laptopId1, -2, laptopId2, -1)));
+        verify(orderExpiryQueue).scheduleAfterCommit(order.getOrderId(), order.getTimestamp().plusMinutes(10));
+        verify(orderEventOutbox).orderPlaced(order);
+        assertEquals(1, meterRegistry.get("orders.placed").counter().count());
     }
 
     @Test
     public void placeOrder_InsufficientStock_ShouldThrowIllegalArgumentException() {
+        mockTransactionTemplate();
         laptop1.setQuantity(1);
         when(laptopRepository.findAllById(anyList()))
                 .thenReturn(Stream.of(laptop1, laptop2).collect(Collectors.toList()));
 
         assertThrows(IllegalArgumentException.class, () ->
                 orderService.placeOrder(orderRequestDto));
+        assertEquals(1, meterRegistry.get("orders.rejected").counter().count());
     }
 
     @Test
-    public void deleteNotPaidOrders_AllOk_Success() {
-        when(orderRepository.findAllByOrderStatusAndTimestampBefore(eq(OrderStatus.PENDING), any(LocalDateTime.class)))
-                .thenReturn(List.of(order1));
+    public void placeOrder_StockTakenConcurrently_ShouldThrowIllegalArgumentException() {
+        mockTransactionTemplate();
+        when(laptopRepository.findAllById(anyList()))
+                .thenReturn(Stream.of(laptop1, laptop2).collect(Collectors.toList()));
+        when(laptopRepository.decreaseQuantity(any(UUID.class), anyInt()))
+                .thenReturn(0);
+
+        assertThrows(IllegalArgumentException.class, () ->
+                orderService.placeOrder(orderRequestDto));
+
+        verify(orderRepository, never()).save(any(Order.class));
+    }
+
+    @Test
+    public void placeOrder_SameIdempotencyKeyTwice_ShouldPlaceOrderOnce() {
+        mockTransactionTemplate();
+        when(orderIdempotencyKeyRepository.findById("key-1"))
+                .thenReturn(Optional.empty());
+        when(laptopRepository.findAllById(anyList()))
+                .thenReturn(Stream.of(laptop1, laptop2).collect(Collectors.toList()));
+        when(laptopRepository.decreaseQuantity(any(UUID.class), anyInt()))
+                .thenReturn(1);
+        when(orderRepository.save(any(Order.class)))
+                .thenReturn(order);
+        when(orderMapper.toDto(order))
+                .thenReturn(expectedOrderResponseDto);
+
+        OrderResponseDto first = orderService.placeOrder(orderRequestDto, "key-1");
+        OrderResponseDto replayed = orderService.placeOrder(orderRequestDto, "key-1");
+
+        assertEquals(expectedOrderResponseDto, first);
+        assertEquals(expectedOrderResponseDto, replayed);
+        verify(orderIdempotencyKeyRepository, times(1)).findById("key-1");
+        verify(orderIdempotencyKeyRepository, times(1))
+                .insert(eq("key-1"), anyString(), eq(order.getOrderId()), eq(order.getTimestamp()));
+        verify(orderRepository, times(1)).save(any(Order.class));
+        verify(laptopRepository, times(1)).decreaseQuantity(laptopId1, 2);
+    }
+
+    @Test
+    public void placeOrder_SameIdempotencyKeyWithDifferentRequest_ShouldThrowUnprocessableEntity() {
+        mockTransactionTemplate();
+        when(orderIdempotencyKeyRepository.findById("key-1"))
+                .thenReturn(Optional.empty());
         when(laptopRepository.findAllById(anyList()))
-                .thenReturn(List.of(laptop1, laptop2));
+                .thenReturn(Stream.of(laptop1, laptop2).collect(Collectors.toList()));
+        when(laptopRepository.decreaseQuantity(any(UUID.class), anyInt()))
+                .thenReturn(1);
+        when(orderRepository.save(any(Order.class)))
+                .thenReturn(order);
+        when(orderMapper.toDto(order))
+                .thenReturn(expectedOrderResponseDto);
+        OrderRequestDto otherRequestDto = new OrderRequestDto(userId, Set.of(new OrderItemDto(laptopId1, 1)));
+
+        orderService.placeOrder(orderRequestDto, "key-1");
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class, () ->
+                orderService.placeOrder(otherRequestDto, "key-1"));
+
+        assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, exception.getStatusCode());
+        verify(orderRepository, times(1)).save(any(Order.class));
+    }
+
+    @Test
+    public void placeOrder_IdempotencyKeyAlreadyStored_ShouldReturnStoredOrder() {
+        UUID orderId = expectedOrderResponseDto.orderId();
+        List<OrderItemRow> rows = List.of(new OrderItemRow(orderId, userId, new BigDecimal("3800.00"),
+                LocalDateTime.now(), OrderStatus.PENDING, laptopId1, "Dell", "XPS 13",
+                new BigDecimal("1200.00"), 2, new BigDecimal("2400.00")));
+        when(orderIdempotencyKeyRepository.findById("key-1"))
+                .thenReturn(Optional.of(storedIdempotencyKey("key-1", orderRequestDto, orderId)));
+        when(orderRepository.findOrderItemRowsByOrderId(orderId)).thenReturn(rows);
+        when(orderMapper.toDto(rows)).thenReturn(expectedOrderResponseDto);
+
+        OrderResponseDto result = orderService.placeOrder(orderRequestDto, "key-1");
+
+        assertEquals(expectedOrderResponseDto, result);
+        verifyNoInteractions(laptopRepository, transactionTemplate);
+        verify(orderRepository, never()).save(any(Order.class));
+    }
+
+    @Test
+    public void placeOrder_IdempotencyKeyOfExpiredOrder_ShouldThrowGoneReadingFromPrimary() {
+        UUID orderId = expectedOrderResponseDto.orderId();
+        List<Boolean> primaryForced = new ArrayList<>();
+        when(orderIdempotencyKeyRepository.findById("key-1")).thenAnswer(invocation -> {
+            primaryForced.add(PrimaryReads.isForced());
+            return Optional.of(storedIdempotencyKey("key-1", orderRequestDto, orderId));
+        });
+        when(orderRepository.findOrderItemRowsByOrderId(orderId)).thenAnswer(invocation -> {
+            primaryForced.add(PrimaryReads.isForced());
+            return List.of();
+        });
+
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class, () ->
+                orderService.placeOrder(orderRequestDto, "key-1"));
+
+        assertEquals(HttpStatus.GONE, exception.getStatusCode());
+        assertEquals(List.of(true, true), primaryForced);
+        verifyNoInteractions(laptopRepository, transactionTemplate);
+    }
+
+    @Test
+    public void placeOrder_IdempotencyKeyStoredForDifferentRequest_ShouldThrowUnprocessableEntity() {
+        OrderRequestDto otherRequestDto = new OrderRequestDto(userId, Set.of(new OrderItemDto(laptopId1, 1)));
+        when(orderIdempotencyKeyRepository.findById("key-1")).thenReturn(Optional.of(
+                storedIdempotencyKey("key-1", otherRequestDto, expectedOrderResponseDto.orderId())));
+
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class, () ->
+                orderService.placeOrder(orderRequestDto, "key-1"));
+
+        assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, exception.getStatusCode());
+        verifyNoInteractions(laptopRepository, transactionTemplate);
+    }
+
+    @Test
+    public void placeOrder_IdempotencyKeyStoredConcurrently_ShouldReturnStoredOrder() {
+        UUID orderId = expectedOrderResponseDto.orderId();
+        List<OrderItemRow> rows = List.of(new OrderItemRow(orderId, userId, new BigDecimal("3800.00"),
+                LocalDateTime.now(), OrderStatus.PENDING, laptopId1, "Dell", "XPS 13",
+                new BigDecimal("1200.00"), 2, new BigDecimal("2400.00")));
+        when(orderIdempotencyKeyRepository.findById("key-1"))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(storedIdempotencyKey("key-1", orderRequestDto, orderId)));
+        when(transactionTemplate.execute(any()))
+                .thenThrow(new DataIntegrityViolationException("Duplicate idempotency key"));
+        when(orderRepository.findOrderItemRowsByOrderId(orderId)).thenReturn(rows);
+        when(orderMapper.toDto(rows)).thenReturn(expectedOrderResponseDto);
+
+        OrderResponseDto result = orderService.placeOrder(orderRequestDto, "key-1");
+
+        assertEquals(expectedOrderResponseDto, result);
+    }
+
+    @Test
+    public void placeOrder_FailedWithIdempotencyKey_ShouldRetryPlacement() {
+        mockTransactionTemplate();
+        when(orderIdempotencyKeyRepository.findById("key-1"))
+                .thenReturn(Optional.empty());
+        when(laptopRepository.findAllById(anyList()))
+                .thenReturn(Stream.of(laptop1, laptop2).collect(Collectors.toList()));
+        when(laptopRepository.decreaseQuantity(any(UUID.class), anyInt()))
+                .thenReturn(0)
+                .thenReturn(1);
+        when(orderRepository.save(any(Order.class)))
+                .thenReturn(order);
+        when(orderMapper.toDto(order))
+                .thenReturn(expectedOrderResponseDto);
+
+        assertThrows(IllegalArgumentException.class, () -> orderService.placeOrder(orderRequestDto, "key-1"));
+        OrderResponseDto result = orderService.placeOrder(orderRequestDto, "key-1");
+
+        assertEquals(expectedOrderResponseDto, result);
+        verify(orderRepository, times(1)).save(any(Order.class));
+    }
+
+    @Test
+    public void submitOrder_AllOk_ShouldQueueOrder() {
+        OrderSubmissionResponseDto result = orderService.submitOrder(orderRequestDto);
+
+        assertEquals(SubmissionStatus.QUEUED, result.status());
+        assertEquals(result, orderService.getSubmission(result.orderId()));
+        verifyNoInteractions(laptopRepository, orderRepository, transactionTemplate);
+    }
+
+    @Test
+    public void submitOrder_QueueFull_ShouldThrowTooManyRequests() {
+        orderService = createOrderService(500, 1);
+        orderService.submitOrder(orderRequestDto);
+
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class, () ->
+                orderService.submitOrder(orderRequestDto));
+
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, exception.getStatusCode());
+    }
+
+    @Test
+    public void getSubmission_StatusEvicted_ShouldResolvePlacedOrderFromDatabase() {
+        when(orderRepository.existsById(uuid1)).thenReturn(true);
+
+        OrderSubmissionResponseDto result = orderService.getSubmission(uuid1);
+
+        assertEquals(new OrderSubmissionResponseDto(uuid1, SubmissionStatus.PLACED, null), result);
+    }
+
+    @Test
+    public void getSubmission_UnknownSubmission_ShouldThrowNotFound() {
+        when(orderRepository.existsById(uuid3)).thenReturn(false);
+
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class, () ->
+                orderService.getSubmission(uuid3));
+
+        assertEquals(HttpStatus.NOT_FOUND, exception.getStatusCode());
+    }
+
+    @Test
+    public void placeOrderBatch_SameLaptop_ShouldDeductOnceAndRejectOrdersThatDoNotFit() {
+        mockTransactionTemplate();
+        OrderSubmission first = new OrderSubmission(uuid1,
+                new OrderRequestDto(userId, Set.of(new OrderItemDto(laptopId1, 4))));
+        OrderSubmission tooLarge = new OrderSubmission(uuid2,
+                new OrderRequestDto(userId, Set.of(new OrderItemDto(laptopId1, 7))));
+        OrderSubmission last = new OrderSubmission(uuid3,
+                new OrderRequestDto(userId, Set.of(new OrderItemDto(laptopId1, 6))));
+        when(laptopRepository.findAllById(Set.of(laptopId1)))
+                .thenReturn(List.of(laptop1));
+
+        List<OrderSubmissionResponseDto> results = orderService.placeOrderBatch(List.of(first, tooLarge, last));
+
+        assertEquals(List.of(SubmissionStatus.PLACED, SubmissionStatus.REJECTED, SubmissionStatus.PLACED),
+                results.stream().map(OrderSubmissionResponseDto::status).toList());
+        assertEquals(0, laptop1.getQuantity());
+        verify(entityManager, times(2)).persist(any(Order.class));
+        verify(orderEventOutbox, times(2)).orderPlaced(any(Order.class));
+        verify(laptopRepository, never()).decreaseQuantity(any(UUID.class), anyInt());
+        verify(eventPublisher).publishEvent(new StockChangedEvent(Map.of(laptopId1, -10)));
+        verify(orderExpiryQueue).scheduleAfterCommit(eq(uuid1), any(LocalDateTime.class));
+        verify(orderExpiryQueue).scheduleAfterCommit(eq(uuid3), any(LocalDateTime.class));
+    }
+
+    @Test
+    public void placeOrderBatch_RepeatedLaptopId_ShouldRejectOrderWithoutOverselling() {
+        mockTransactionTemplate();
+        laptop1.setQuantity(2);
+        OrderSubmission repeated = new OrderSubmission(uuid1, new OrderRequestDto(userId,
+                Set.of(new OrderItemDto(laptopId1, 1), new OrderItemDto(laptopId1, 2))));
+        OrderSubmission single = new OrderSubmission(uuid2,
+                new OrderRequestDto(userId, Set.of(new OrderItemDto(laptopId1, 2))));
+        when(laptopRepository.findAllById(Set.of(laptopId1)))
+                .thenReturn(List.of(laptop1));
+
+        List<OrderSubmissionResponseDto> results = orderService.placeOrderBatch(List.of(repeated, single));
+
+        assertEquals(new OrderSubmissionResponseDto(
+                uuid1, SubmissionStatus.REJECTED, "Duplicate laptop ID: " + laptopId1), results.get(0));
+        assertEquals(SubmissionStatus.PLACED, results.get(1).status());
+        assertEquals(0, laptop1.getQuantity());
+        verify(entityManager, times(1)).persist(any(Order.class));
+        verify(eventPublisher).publishEvent(new StockChangedEvent(Map.of(laptopId1, -2)));
+    }
+
+    @Test
+    public void placeOrderBatch_StockChangedConcurrently_ShouldRetryBatch() {
+        OrderSubmission submission = new OrderSubmission(uuid1,
+                new OrderRequestDto(userId, Set.of(new OrderItemDto(laptopId1, 4))));
+        when(laptopRepository.findAllById(Set.of(laptopId1)))
+                .thenReturn(List.of(laptop1));
+        when(transactionTemplate.execute(any()))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Laptop.class, laptopId1))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+
+        List<OrderSubmissionResponseDto> results = orderService.placeOrderBatch(List.of(submission));
+
+        assertEquals(SubmissionStatus.PLACED, results.get(0).status());
+        assertEquals(1, meterRegistry.get("orders.stock.conflicts").tag("outcome", "retried").counter().count());
+        assertEquals(1, meterRegistry.get("orders.placed").counter().count());
+        verify(transactionTemplate, times(2)).execute(any());
+    }
+
+    @Test
+    public void placeOrderBatch_StockKeepsChanging_ShouldGiveUpAfterMaxAttempts() {
+        OrderSubmission submission = new OrderSubmission(uuid1,
+                new OrderRequestDto(userId, Set.of(new OrderItemDto(laptopId1, 4))));
+        when(transactionTemplate.execute(any()))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Laptop.class, laptopId1));
+
+        assertThrows(OptimisticLockingFailureException.class, () ->
+                orderService.placeOrderBatch(List.of(submission)));
+
+        assertEquals(1, meterRegistry.get("orders.stock.conflicts").tag("outcome", "exhausted").counter().count());
+        verify(transactionTemplate, times(3)).execute(any());
+    }
+
+    @Test
+    public void placeOrderBatch_UnknownLaptop_ShouldRejectOrder() {
+        mockTransactionTemplate();
+        OrderSubmission submission = new OrderSubmission(uuid1, orderRequestDto);
+        when(laptopRepository.findAllById(Set.of(laptopId1, laptopId2)))
+                .thenReturn(List.of(laptop1));
+
+        List<OrderSubmissionResponseDto> results = orderService.placeOrderBatch(List.of(submission));
+
+        assertEquals(SubmissionStatus.REJECTED, results.get(0).status());
+        verify(entityManager, never()).persist(any());
+    }
+
+    @Test
+    public void getOrder_AllOk_ShouldReturnOrderFromItemRows() {
+        List<OrderItemRow> orderItemRows = List.of(new OrderItemRow(uuid1, userId, new BigDecimal("3800.00"),
+                LocalDateTime.now(), OrderStatus.PENDING, laptopId1, "Dell", "XPS 13",
+                new BigDecimal("1200.00"), 2, new BigDecimal("2400.00")));
+
+        when(orderRepository.findOrderItemRowsByOrderId(uuid1)).thenReturn(orderItemRows);
+        when(orderMapper.toDto(orderItemRows)).thenReturn(expectedOrderResponseDto);
+
+        assertEquals(expectedOrderResponseDto, orderService.getOrder(uuid1));
+    }
+
+    @Test
+    public void getOrder_OrderNotFound_ShouldThrowNotFound() {
+        when(orderRepository.findOrderItemRowsByOrderId(uuid3)).thenReturn(List.of());
+
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class, () ->
+                orderService.getOrder(uuid3));
+
+        assertEquals(HttpStatus.NOT_FOUND, exception.getStatusCode());
+    }
+
+    @Test
+    public void getUserOrders_AllOk_ShouldReturnProjectedSummaries() {
+        OrderSummary orderSummary = new OrderSummary(uuid1, userId, new BigDecimal("3800.00"),
+                LocalDateTime.now(), OrderStatus.PAID);
+        OrderSummaryResponseDto expected = new OrderSummaryResponseDto(uuid1, userId, new BigDecimal("3800.00"),
+                orderSummary.timestamp(), OrderStatus.PAID);
+
+        when(orderRepository.findSummariesByUserId(userId, PageRequest.of(0, 20)))
+                .thenReturn(List.of(orderSummary));
+        when(orderMapper.toSummaryDto(orderSummary)).thenReturn(expected);
+
+        List<OrderSummaryResponseDto> result = orderService.getUserOrders(userId,
+                PageRequest.of(0, 20, Sort.by("totalAmount")));
+
+        assertEquals(List.of(expected), result);
+    }
+
+    @Test
+    public void scheduleExpiryOfPendingOrders_AllOk_ShouldQueuePendingOrdersByDeadline() {
+        LocalDateTime timestamp = LocalDateTime.now();
+        when(orderRepository.findTimestampsByOrderStatus(OrderStatus.PENDING, Limit.of(1000)))
+                .thenReturn(List.of(new OrderTimestamp(uuid1, timestamp)));
+
+        orderService.scheduleExpiryOfPendingOrders();
+
+        verify(orderExpiryQueue).schedule(uuid1, timestamp.plusMinutes(10));
+    }
+
+    @Test
+    public void expireDueOrders_AllOk_ShouldReleaseOnlyStillPendingOrders() {
+        mockTransactionTemplate();
+        when(orderExpiryQueue.pollExpired(500))
+                .thenReturn(List.of(uuid1, uuid2)).thenReturn(List.of());
+        when(orderRepository.findIdsForUpdateByOrderIdInAndOrderStatus(List.of(uuid1, uuid2), OrderStatus.PENDING))
+                .thenReturn(List.of(uuid1));
+        when(orderRepository.sumQuantitiesByOrderIds(List.of(uuid1)))
+                .thenReturn(List.of(new LaptopQuantity(laptopId1, 2L)));
+
+        orderService.expireDueOrders();
+
+        verify(laptopRepository).increaseQuantityByOrderItems(List.of(uuid1));
+        verify(orderRepository).deleteOrderItemsByOrderIds(List.of(uuid1));
+        verify(orderRepository).deleteAllByIdInBatch(List.of(uuid1));
+        verify(eventPublisher).publishEvent(new StockChangedEvent(Map.of(laptopId1, 2)));
+        assertEquals(1, meterRegistry.get("orders.expired").tag("trigger", "queue").counter().count());
+    }
+
+    @Test
+    public void expireDueOrders_NothingDue_ShouldDoNothing() {
+        when(orderExpiryQueue.pollExpired(500)).thenReturn(List.of());
+
+        orderService.expireDueOrders();
+
+        verifyNoInteractions(transactionTemplate, laptopRepository, orderRepository);
+    }
+
+    @Test
+    public void deleteNotPaidOrders_AllOk_Success() {
+        mockSchedulerLeases();
+        mockTransactionTemplate();
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        when(orderRepository.findIdsForUpdateByOrderStatusAndTimestampBefore(
+                eq(OrderStatus.PENDING), any(LocalDateTime.class), any(Limit.class)))
+                .thenReturn(List.of(uuid1));
+        when(orderRepository.sumQuantitiesByOrderIds(List.of(uuid1)))
+                .thenReturn(List.of(new LaptopQuantity(laptopId1, 2L), new LaptopQuantity(laptopId2, 1L)));
 
         orderService.deleteNotPaidOrders();
 
-        assertEquals(12, laptop1.getQuantity());
-        assertEquals(6, laptop2.getQuantity());
+        verify(orderRepository).findIdsForUpdateByOrderStatusAndTimestampBefore(
+                eq(OrderStatus.PENDING), any(LocalDateTime.class), eq(Limit.of(500)));
+        verify(orderRepository).sumQuantitiesByOrderIds(List.of(uuid1));
+        verify(orderRepository).findOrderItemRowsByOrderIdIn(List.of(uuid1));
+        verify(orderEventOutbox).ordersChanged(OrderEventType.EXPIRED, List.of());
+        verify(laptopRepository).increaseQuantityByOrderItems(List.of(uuid1));
+        verify(expiredOrderRepository).insertAll(eq(List.of(uuid1)), any(LocalDateTime.class));
+        verify(orderRepository).deleteOrderItemsByOrderIds(List.of(uuid1));
+        verify(orderRepository).deleteAllByIdInBatch(List.of(uuid1));
+        verify(eventPublisher).publishEvent(new StockChangedEvent(Map.of(laptopId1, 2, laptopId2, 1)));
+        verify(expiredOrderRepository).deleteExpiredBefore(any(LocalDateTime.class));
+        verifyNoMoreInteractions(laptopRepository, orderRepository, expiredOrderRepository);
+    }
+
+    @Test
+    public void deleteNotPaidOrders_SeveralChunks_ShouldSweepUntilNoOrdersLeft() {
+        orderService = createOrderService(1);
+        mockSchedulerLeases();
+        mockTransactionTemplate();
+        when(orderRepository.findIdsForUpdateByOrderStatusAndTimestampBefore(
+                eq(OrderStatus.PENDING), any(LocalDateTime.class), any(Limit.class)))
+                .thenReturn(List.of(uuid1)).thenReturn(List.of(uuid2)).thenReturn(List.of());
+
+        orderService.deleteNotPaidOrders();
 
-        verify(orderRepository).findAllByOrderStatusAndTimestampBefore(eq(OrderStatus.PENDING), any(LocalDateTime.class));
-        verify(laptopRepository).findAllById(anyList());
-        verify(laptopRepository).saveAll(anyList());
-        verify(orderRepository).deleteAll(List.of(order1));
+        verify(transactionTemplate, times(3)).execute(any());
+        verify(orderRepository).deleteAllByIdInBatch(List.of(uuid1));
+        verify(orderRepository).deleteAllByIdInBatch(List.of(uuid2));
     }
 
     @Test
     public void deleteNotPaidOrders_NoUnpaidOrders_ShouldDoNothing() {
-        when(orderRepository.findAllByOrderStatusAndTimestampBefore(eq(OrderStatus.PENDING), any(LocalDateTime.class)))
+        mockSchedulerLeases();
+        mockTransactionTemplate();
+        when(orderRepository.findIdsForUpdateByOrderStatusAndTimestampBefore(
+                eq(OrderStatus.PENDING), any(LocalDateTime.class), any(Limit.class)))
                 .thenReturn(List.of());
 
         orderService.deleteNotPaidOrders();
 
-        verify(orderRepository).findAllByOrderStatusAndTimestampBefore(eq(OrderStatus.PENDING), any(LocalDateTime.class));
+        verify(orderRepository).findIdsForUpdateByOrderStatusAndTimestampBefore(
+                eq(OrderStatus.PENDING), any(LocalDateTime.class), any(Limit.class));
         verifyNoMoreInteractions(laptopRepository, orderRepository);
     }
 
+    @Test
+    public void deleteNotPaidOrders_LeaseHeldByAnotherInstance_ShouldSkipSweep() {
+        when(schedulerLeases.runExclusively(anyString(), any())).thenReturn(false);
+
+        orderService.deleteNotPaidOrders();
+
+        verifyNoInteractions(transactionTemplate, laptopRepository, orderRepository);
+    }
+
     @Test
     public void markOrderAsPaid_AllOk_Success() {
-        when(orderRepository.findById(uuid1)).thenReturn(Optional.of(order1));
+        when(orderRepository.updateOrderStatus(
+                eq(uuid1), eq(OrderStatus.PENDING), eq(OrderStatus.PAID), any(LocalDateTime.class))).thenReturn(1);
 
-        orderService.markOrderAsPaid(uuid1);
+        assertEquals(PaymentOutcome.PAID, orderService.markOrderAsPaid(uuid1));
 
-        assertEquals(OrderStatus.PAID, order1.getOrderStatus());
-        verify(orderRepository).save(order1);
+        verify(orderRepository, never()).findOrderStatusById(any());
+        verify(orderEventOutbox).ordersChanged(OrderEventType.PAID, List.of());
+        assertEquals(1, meterRegistry.get("orders.paid").counter().count());
     }
 
     @Test
-    public void markOrderAsPaid_OrderNotFound_ShouldThrowEntityNotFoundException() {
-        when(orderRepository.findById(uuid3)).thenReturn(Optional.empty());
+    public void markOrderAsPaid_OrderNotFound_ShouldReturnNotFound() {
+        when(orderRepository.findOrderStatusById(uuid3)).thenReturn(Optional.empty());
 
-        assertThrows(EntityNotFoundException.class, () ->
-                orderService.markOrderAsPaid(uuid3));
+        assertEquals(PaymentOutcome.NOT_FOUND, orderService.markOrderAsPaid(uuid3));
 
-        verify(orderRepository, never()).save(any(Order.class));
+        verifyNoInteractions(orderEventOutbox);
+        assertEquals(0, meterRegistry.get("orders.paid").counter().count());
+    }
+
+    @Test
+    public void markOrderAsPaid_ExpiredOrderDeleted_ShouldReturnExpired() {
+        when(orderRepository.findOrderStatusById(uuid3)).thenReturn(Optional.empty());
+        when(expiredOrderRepository.existsById(uuid3)).thenReturn(true);
+
+        assertEquals(PaymentOutcome.EXPIRED, orderService.markOrderAsPaid(uuid3));
+
+        verifyNoInteractions(orderEventOutbox);
+        assertEquals(0, meterRegistry.get("orders.paid").counter().count());
+    }
+
+    @Test
+    public void markOrderAsPaid_OrderAlreadyPaid_ShouldReturnAlreadyPaid() {
+        when(orderRepository.findOrderStatusById(uuid1)).thenReturn(Optional.of(OrderStatus.PAID));
+
+        assertEquals(PaymentOutcome.ALREADY_PAID, orderService.markOrderAsPaid(uuid1));
+
+        assertEquals(0, meterRegistry.get("orders.paid").counter().count());
+    }
+
+    @Test
+    public void markOrderAsPaid_PendingOrderPastTimeout_ShouldReturnExpired() {
+        when(orderRepository.findOrderStatusById(uuid1)).thenReturn(Optional.of(OrderStatus.PENDING));
+
+        assertEquals(PaymentOutcome.EXPIRED, orderService.markOrderAsPaid(uuid1));
+
+        assertEquals(0, meterRegistry.get("orders.paid").counter().count());
+    }
+
+    private OrderServiceImpl createOrderService(int chunkSize) {
+        return createOrderService(chunkSize, 1000);
+    }
+
+    private OrderServiceImpl createOrderService(int chunkSize, int submissionQueueCapacity) {
+        OrderExpiryProperties orderExpiryProperties =
+                new OrderExpiryProperties(Duration.ofMinutes(10), chunkSize, Duration.ofSeconds(30), 1000,
+                        Duration.ofDays(7));
+
+        OrderSubmissionQueue orderSubmissionQueue = new OrderSubmissionQueue(
+                new OrderSubmissionProperties(submissionQueueCapacity, 200, 1000, Duration.ofHours(1)));
+        OrderIdempotencyProperties orderIdempotencyProperties =
+                new OrderIdempotencyProperties(1000, Duration.ofHours(1), Duration.ofDays(7));
+        OrderIdempotencyCache orderIdempotencyCache = new OrderIdempotencyCache(orderIdempotencyProperties);
+
+        OrderMetrics orderMetrics = new OrderMetrics(meterRegistry);
+        OptimisticLockRetry optimisticLockRetry = new OptimisticLockRetry(
+                new StockRetryProperties(3, Duration.ZERO, Duration.ZERO), orderMetrics);
+        RecentWrites recentWrites = new RecentWrites(
+                new DataSourceRoutingProperties(List.of(), Duration.ofSeconds(5), 1000));
+
+        return new OrderServiceImpl(laptopRepository, orderRepository, orderMapper, eventPublisher,
+                orderIdempotencyCache, orderIdempotencyKeyRepository, orderIdempotencyProperties, orderExpiryQueue,
+                orderExpiryProperties, orderSubmissionQueue, orderMetrics, recentWrites, optimisticLockRetry,
+                transactionTemplate, entityManager, schedulerLeases, orderEventOutbox, expiredOrderRepository);
+    }
+
+    private void mockSchedulerLeases() {
+        when(schedulerLeases.runExclusively(anyString(), any()))
+                .thenAnswer(invocation -> {
+                    invocation.<Runnable>getArgument(1).run();
+                    return true;
+                });
+    }
+
+    private OrderIdempotencyKey storedIdempotencyKey(String idempotencyKey, OrderRequestDto requestDto,
+                                                     UUID orderId) {
+        OrderIdempotencyKey storedKey = new OrderIdempotencyKey();
+        storedKey.setIdempotencyKey(idempotencyKey);
+        storedKey.setRequestHash(OrderIdempotencyCache.requestHash(requestDto));
+        storedKey.setOrderId(orderId);
+        storedKey.setCreatedAt(LocalDateTime.now());
+        return storedKey;
+    }
+
+    private void mockTransactionTemplate() {
+        when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
     }
 }
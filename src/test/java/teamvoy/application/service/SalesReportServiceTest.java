@@ -0,0 +1,110 @@
+package teamvoy.application.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+import teamvoy.application.dto.order.event.OrderEventItem;
+import teamvoy.application.dto.order.event.OrderEventSales;
+import teamvoy.application.dto.report.response.SalesBucketDto;
+import teamvoy.application.entity.SalesRollup;
+import teamvoy.application.entity.enums.OrderEventType;
+import teamvoy.application.entity.enums.SalesGranularity;
+import teamvoy.application.repo.SalesRollupRepository;
+import teamvoy.application.service.impl.SalesReportServiceImpl;
+
+@ExtendWith(MockitoExtension.class)
+public class SalesReportServiceTest {
+    private static final LocalDateTime DAY = LocalDateTime.of(2026, 10, 18, 0, 0);
+
+    @Mock
+    private SalesRollupRepository salesRollupRepository;
+
+    private SalesReportServiceImpl salesReportService;
+
+    private UUID laptopId;
+
+    @BeforeEach
+    void setUp() {
+        salesReportService = new SalesReportServiceImpl(salesRollupRepository);
+        laptopId = UUID.randomUUID();
+    }
+
+    @Test
+    void recordOrderEvents_EventsInSameHour_ShouldAddOneDeltaPerRollup() {
+        UUID otherLaptopId = UUID.randomUUID();
+
+        salesReportService.recordOrderEvents(List.of(
+                event(OrderEventType.PLACED, DAY.plusMinutes(5),
+                        new OrderEventItem(laptopId, 2, new BigDecimal("200.00")),
+                        new OrderEventItem(otherLaptopId, 1, new BigDecimal("50.00"))),
+                event(OrderEventType.PLACED, DAY.plusMinutes(55),
+                        new OrderEventItem(laptopId, 1, new BigDecimal("100.00"))),
+                event(OrderEventType.PLACED, DAY.plusMinutes(65),
+                        new OrderEventItem(laptopId, 4, new BigDecimal("400.00"))),
+                event(OrderEventType.PAID, DAY.plusMinutes(30),
+                        new OrderEventItem(laptopId, 2, new BigDecimal("200.00")))));
+
+        verify(salesRollupRepository).add(DAY, laptopId, OrderEventType.PLACED, 3, new BigDecimal("300.00"));
+        verify(salesRollupRepository).add(DAY, laptopId, OrderEventType.PAID, 2, new BigDecimal("200.00"));
+        verify(salesRollupRepository).add(DAY, otherLaptopId, OrderEventType.PLACED, 1, new BigDecimal("50.00"));
+        verify(salesRollupRepository).add(DAY.plusHours(1), laptopId, OrderEventType.PLACED, 4,
+                new BigDecimal("400.00"));
+        verifyNoMoreInteractions(salesRollupRepository);
+    }
+
+    @Test
+    void getSalesReport_DailyGranularity_ShouldSumHourlyRollupsPerDayAndLaptop() {
+        when(salesRollupRepository.findAllByBucketStartInRange(DAY, DAY.plusDays(2))).thenReturn(List.of(
+                rollup(DAY.plusHours(9), OrderEventType.PLACED, 5, "500.00"),
+                rollup(DAY.plusHours(9), OrderEventType.PAID, 2, "200.00"),
+                rollup(DAY.plusHours(17), OrderEventType.PAID, 1, "100.00"),
+                rollup(DAY.plusHours(23), OrderEventType.EXPIRED, 2, "200.00"),
+                rollup(DAY.plusDays(1), OrderEventType.PLACED, 1, "100.00")));
+
+        List<SalesBucketDto> report = salesReportService.getSalesReport(DAY.plusHours(8), DAY.plusDays(2),
+                SalesGranularity.DAY);
+
+        assertEquals(List.of(
+                new SalesBucketDto(DAY, laptopId, 5, 3, new BigDecimal("300.00"), 2),
+                new SalesBucketDto(DAY.plusDays(1), laptopId, 1, 0, BigDecimal.ZERO, 0)), report);
+    }
+
+    @Test
+    void getSalesReport_FromNotBeforeTo_ShouldThrowBadRequest() {
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+                () -> salesReportService.getSalesReport(DAY, DAY, SalesGranularity.HOUR));
+
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+        verifyNoInteractions(salesRollupRepository);
+    }
+
+    private OrderEventSales event(OrderEventType type, LocalDateTime occurredAt, OrderEventItem... items) {
+        return new OrderEventSales(type, occurredAt, List.of(items));
+    }
+
+    private SalesRollup rollup(LocalDateTime bucketStart, OrderEventType eventType, long units, String amount) {
+        SalesRollup rollup = new SalesRollup();
+        rollup.setBucketStart(bucketStart);
+        rollup.setLaptopId(laptopId);
+        rollup.setEventType(eventType);
+        rollup.setUnits(units);
+        rollup.setAmount(new BigDecimal(amount));
+
+        return rollup;
+    }
+}
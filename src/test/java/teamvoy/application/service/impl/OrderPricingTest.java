@@ -0,0 +1,69 @@
+package teamvoy.application.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class OrderPricingTest {
+    private static final long SEED = 20241018L;
+    private static final int ORDERS = 20_000;
+
+    @Test
+    public void addItem_RandomOrders_ShouldMatchBigDecimalArithmetic() {
+        Random random = new Random(SEED);
+
+        for (int i = 0; i < ORDERS; i++) {
+            OrderPricing orderPricing = new OrderPricing();
+            BigDecimal expectedTotal = BigDecimal.ZERO;
+            int items = 1 + random.nextInt(20);
+
+            for (int j = 0; j < items; j++) {
+                BigDecimal price = randomPrice(random);
+                int quantity = randomQuantity(random);
+                BigDecimal expectedItemTotal = price.multiply(BigDecimal.valueOf(quantity));
+                expectedTotal = expectedTotal.add(expectedItemTotal);
+
+                String context = "order " + i + ", price " + price + ", quantity " + quantity;
+                assertEquals(expectedItemTotal, orderPricing.addItem(price, quantity), context);
+            }
+
+            assertEquals(expectedTotal, orderPricing.totalAmount(), "order " + i);
+        }
+    }
+
+    @Test
+    public void addItem_TotalOverflowsLong_ShouldFallBackToBigDecimal() {
+        OrderPricing orderPricing = new OrderPricing();
+        BigDecimal price = BigDecimal.valueOf(Long.MAX_VALUE / 2, 2);
+
+        BigDecimal first = orderPricing.addItem(price, 1);
+        BigDecimal second = orderPricing.addItem(price, 3);
+
+        assertEquals(price, first);
+        assertEquals(price.multiply(BigDecimal.valueOf(3)), second);
+        assertEquals(price.add(price.multiply(BigDecimal.valueOf(3))), orderPricing.totalAmount());
+    }
+
+    @Test
+    public void totalAmount_NoItems_ShouldBeZero() {
+        assertEquals(BigDecimal.ZERO, new OrderPricing().totalAmount());
+    }
+
+    private BigDecimal randomPrice(Random random) {
+        int scale = random.nextInt(8) - 1;
+
+        return switch (random.nextInt(4)) {
+            case 0 -> BigDecimal.valueOf(random.nextInt(1_000_000), scale);
+            case 1 -> BigDecimal.valueOf(random.nextLong() >>> random.nextInt(64), scale);
+            case 2 -> new BigDecimal(new BigInteger(64 + random.nextInt(64), random), scale);
+            default -> BigDecimal.valueOf(random.nextInt(500_000), 2);
+        };
+    }
+
+    private int randomQuantity(Random random) {
+        return random.nextInt(4) == 0 ? random.nextInt(Integer.MAX_VALUE) + 1 : random.nextInt(100) + 1;
+    }
+}
@@ -0,0 +1,19 @@
+create table if not exists laptops (
+    laptop_id binary(16) primary key,
+    brand varchar(255) not null,
+    model varchar(255) not null,
+    processor varchar(255) not null,
+    ram integer not null,
+    price numeric(38, 2) not null,
+    quantity integer not null,
+    created_at timestamp(6) not null,
+    version bigint not null
+);
+
+create table if not exists orders (
+    order_id binary(16) primary key,
+    user_id binary(16) not null,
+    total_amount numeric(38, 2) not null,
+    timestamp timestamp(6) not null,
+    order_status varchar(255)
+);